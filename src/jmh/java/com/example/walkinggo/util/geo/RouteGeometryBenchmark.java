@@ -0,0 +1,74 @@
+package com.example.walkinggo.util.geo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RouteGeometryBenchmark {
+
+    @Param({"10000", "50000", "100000"})
+    private int pointCount;
+
+    private String routeCoordinatesJson;
+    private TrackPoints parsedPoints;
+    private final TrackCleaningPipeline cleaningPipeline = new TrackCleaningPipeline(List.of(
+            new DuplicatePointFilter(), new SpeedOutlierFilter(7.0), new KalmanSmoothingFilter(3.0, 10.0)));
+    private final RouteGeometryProcessor processor = new RouteGeometryProcessor(cleaningPipeline);
+    private final LocalDateTime startTime = LocalDateTime.of(2025, 5, 20, 10, 0);
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder(pointCount * 64).append('[');
+        double lat = 37.5665;
+        double lng = 126.9780;
+        long timestamp = 1_747_700_000_000L;
+        for (int i = 0; i < pointCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"lat\":").append(lat)
+                    .append(",\"lng\":").append(lng)
+                    .append(",\"timestamp\":").append(timestamp).append('}');
+            lat += (random.nextDouble() - 0.5) * 0.0001;
+            lng += (random.nextDouble() - 0.5) * 0.0001;
+            timestamp += 1000L;
+        }
+        routeCoordinatesJson = json.append(']').toString();
+        parsedPoints = TrackPoints.parse(routeCoordinatesJson);
+    }
+
+    @Benchmark
+    public TrackPoints parse() {
+        return TrackPoints.parse(routeCoordinatesJson);
+    }
+
+    @Benchmark
+    public TrackMetrics computeMetrics() {
+        return TrackMetricsCalculator.compute(parsedPoints);
+    }
+
+    @Benchmark
+    public int clean() {
+        TrackPoints points = TrackPoints.parse(routeCoordinatesJson);
+        return cleaningPipeline.clean(points);
+    }
+
+    @Benchmark
+    public TrackMetrics parseAndCompute() {
+        return processor.process(routeCoordinatesJson, startTime, startTime.plusSeconds(pointCount));
+    }
+}
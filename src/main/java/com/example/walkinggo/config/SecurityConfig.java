@@ -49,6 +49,8 @@ public class SecurityConfig {
                                 AntPathRequestMatcher.antMatcher("/api-docs/**"),
                                 AntPathRequestMatcher.antMatcher("/webjars/**"),
                                 AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/share/**"),
+                                AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/thumbnails/**"),
+                                AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/heatmap/**"),
                                 AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/walk-logs/recommended"),
                                 AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/walk-logs/*/details")
                         ).permitAll()
@@ -0,0 +1,42 @@
+package com.example.walkinggo.controller;
+
+import com.example.walkinggo.dto.ErrorResponse;
+import com.example.walkinggo.dto.HeatmapTileResponse;
+import com.example.walkinggo.service.HeatmapService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/heatmap")
+@RequiredArgsConstructor
+public class HeatmapController {
+
+    private static final CacheControl TILE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic();
+
+    private final HeatmapService heatmapService;
+
+    @Operation(summary = "산책 히트맵 타일 조회", description = "공개 경로를 집계한 히트맵 타일을 조회합니다. 타일 좌표는 웹 메르카토르(XYZ) 체계를 따르며, 각 타일은 32x32 셀로 나뉩니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = HeatmapTileResponse.class)))
+    @ApiResponse(responseCode = "400", description = "지원하지 않는 줌 레벨 또는 잘못된 타일 좌표", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/{z}/{x}/{y}")
+    public ResponseEntity<?> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        try {
+            HeatmapTileResponse tile = heatmapService.getTile(z, x, y);
+            return ResponseEntity.ok().cacheControl(TILE_CACHE_CONTROL).body(tile);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.walkinggo.controller;
 
 import com.example.walkinggo.dto.ErrorResponse;
-import com.example.walkinggo.dto.WalkLogResponse;
+import com.example.walkinggo.service.ShareResponseCache;
 import com.example.walkinggo.service.ShareService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,7 +9,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 
@@ -25,6 +29,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ShareController {
 
+    private static final CacheControl SHARE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
     private final ShareService shareService;
 
     @Operation(summary = "산책 기록 공유 링크 생성", description = "특정 산책 기록에 대한 공유 가능한 고유 URL을 생성합니다.")
@@ -56,15 +62,51 @@ public class ShareController {
         }
     }
 
-    @Operation(summary = "공유된 산책 경로 조회", description = "공유 링크 ID를 통해 누구나 산책 경로 정보를 조회합니다.")
+    @Operation(summary = "공유된 산책 경로 조회", description = "공유 링크 ID를 통해 누구나 산책 경로 정보를 조회합니다. ETag를 지원하여 변경이 없으면 304를 반환합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "변경 없음")
     @GetMapping("/share/{shareId}")
-    public ResponseEntity<?> getSharedRoute(@PathVariable UUID shareId) {
+    public ResponseEntity<?> getSharedRoute(
+            @PathVariable UUID shareId,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
-            WalkLogResponse walkLogResponse = shareService.getSharedRoute(shareId);
-            return ResponseEntity.ok(walkLogResponse);
+            ShareResponseCache.Entry response = shareService.getSharedRoute(shareId);
+            if (matchesEtag(ifNoneMatch, response.etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(response.etag())
+                        .cacheControl(SHARE_CACHE_CONTROL)
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+            boolean gzip = response.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(response.etag())
+                    .cacheControl(SHARE_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzip());
+            }
+            return builder.body(response.json());
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
         }
     }
-}
\ No newline at end of file
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
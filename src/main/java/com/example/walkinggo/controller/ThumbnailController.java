@@ -0,0 +1,39 @@
+package com.example.walkinggo.controller;
+
+import com.example.walkinggo.service.RouteThumbnailService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+public class ThumbnailController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final RouteThumbnailService routeThumbnailService;
+
+    @Operation(summary = "경로 썸네일 이미지 조회", description = "공유/추천 경로의 미리보기 PNG 이미지를 반환합니다. 이미지 내용의 해시로 주소가 정해지므로 오래 캐시할 수 있습니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "썸네일을 찾을 수 없음")
+    @GetMapping("/thumbnails/{hash}.png")
+    public ResponseEntity<Resource> getThumbnail(@PathVariable String hash) {
+        return routeThumbnailService.findThumbnail(hash)
+                .<ResponseEntity<Resource>>map(path -> ResponseEntity.ok()
+                        .contentType(MediaType.IMAGE_PNG)
+                        .cacheControl(IMMUTABLE)
+                        .eTag("\"" + hash + "\"")
+                        .body(new FileSystemResource(path)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.walkinggo.controller;
 
 import com.example.walkinggo.dto.*;
+import com.example.walkinggo.service.CalorieRecomputeService;
+import com.example.walkinggo.service.ResourceVersionRegistry;
 import com.example.walkinggo.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,11 +15,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,7 +31,11 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class UserController {
 
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final UserService userService;
+    private final CalorieRecomputeService calorieRecomputeService;
+    private final ResourceVersionRegistry resourceVersionRegistry;
     private final Logger logger = LoggerFactory.getLogger(UserController.class);
 
     @Operation(summary = "내 프로필 정보 조회", description = "현재 로그인된 사용자의 프로필 정보를 반환합니다.")
@@ -38,7 +46,8 @@ public class UserController {
     @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/me")
-    public ResponseEntity<?> getMyProfile(@Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<?> getMyProfile(@Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+                                          WebRequest webRequest) {
 
         if (userDetails == null) {
             logger.warn("내 프로필 조회 시 인증된 사용자 정보를 찾을 수 없습니다.");
@@ -46,11 +55,15 @@ public class UserController {
         }
 
         String username = userDetails.getUsername();
+        String etag = resourceVersionRegistry.viewerEtag(username, ResourceVersionRegistry.user(username));
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
         logger.info("내 프로필 정보 조회 요청: 사용자='{}'", username);
 
         try {
             UserProfileResponse userProfile = userService.getUserProfile(username);
-            return ResponseEntity.ok(userProfile);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(userProfile);
         } catch (EntityNotFoundException e) {
             logger.warn("내 프로필 조회 실패 - 서비스에서 사용자를 찾을 수 없음: {}", username);
             return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
@@ -98,7 +111,7 @@ public class UserController {
         }
     }
 
-    @Operation(summary = "내 체중 수정", description = "현재 로그인된 사용자의 체중(kg)만 수정합니다.")
+    @Operation(summary = "내 체중 수정", description = "현재 로그인된 사용자의 체중(kg)만 수정합니다. `recomputeCalories: true`이면 과거 산책 기록의 칼로리 재계산 작업을 함께 등록합니다.")
     @ApiResponse(responseCode = "200", description = "체중 수정 성공",
             content = @Content(schema = @Schema(implementation = UserProfileResponse.class)))
     @PatchMapping("/me/profile/weight")
@@ -111,12 +124,49 @@ public class UserController {
         String username = userDetails.getUsername();
         try {
             UserProfileResponse updatedProfile = userService.updateUserWeight(username, request.getWeightKg());
+            if (Boolean.TRUE.equals(request.getRecomputeCalories())) {
+                calorieRecomputeService.requestRecompute(username);
+            }
             return ResponseEntity.ok(updatedProfile);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
         }
     }
 
+    @Operation(summary = "과거 산책 기록 칼로리 재계산 요청",
+            description = "현재 체중으로 과거 산책 기록의 소모 칼로리를 백그라운드에서 다시 계산합니다. 직접 입력한 칼로리는 변경하지 않습니다. 진행 중인 작업이 있으면 처음부터 다시 시작합니다.")
+    @ApiResponse(responseCode = "202", description = "재계산 작업 등록",
+            content = @Content(schema = @Schema(implementation = CalorieRecomputeJobResponse.class)))
+    @PostMapping("/me/calorie-recompute")
+    public ResponseEntity<?> requestCalorieRecompute(@Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            CalorieRecomputeJobResponse job = calorieRecomputeService.requestRecompute(userDetails.getUsername());
+            return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Operation(summary = "칼로리 재계산 진행 상황 조회", description = "가장 최근 칼로리 재계산 작업의 상태와 진행도를 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = CalorieRecomputeJobResponse.class)))
+    @ApiResponse(responseCode = "404", description = "재계산 작업이 없음",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/me/calorie-recompute")
+    public ResponseEntity<?> getCalorieRecompute(@Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            return ResponseEntity.ok(calorieRecomputeService.getLatestJob(userDetails.getUsername()));
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
+        }
+    }
+
     @Operation(summary = "내 목표 거리 수정", description = "현재 로그인된 사용자의 목표 거리(km)만 수정합니다.")
     @ApiResponse(responseCode = "200", description = "목표 거리 수정 성공",
             content = @Content(schema = @Schema(implementation = UserProfileResponse.class)))
@@ -144,15 +194,20 @@ public class UserController {
     @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/me/groups")
-    public ResponseEntity<?> getMyJoinedGroups(@Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<?> getMyJoinedGroups(@Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+                                               WebRequest webRequest) {
         if (userDetails == null) {
             return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
         }
         String username = userDetails.getUsername();
+        String etag = resourceVersionRegistry.viewerEtag(username, ResourceVersionRegistry.GROUPS);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
         logger.info("내가 가입한 그룹 목록 조회 요청: 사용자='{}'", username);
         try {
             List<SimpleGroupResponse> groups = userService.getUserJoinedGroups(username);
-            return ResponseEntity.ok(groups);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(groups);
         } catch (EntityNotFoundException e) {
             logger.warn("가입 그룹 목록 조회 실패 - 사용자를 찾을 수 없음: {}", username);
             return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
@@ -1,6 +1,9 @@
 package com.example.walkinggo.controller;
 
 import com.example.walkinggo.dto.*;
+import com.example.walkinggo.service.GroupActivityService;
+import com.example.walkinggo.service.GroupChallengeService;
+import com.example.walkinggo.service.ResourceVersionRegistry;
 import com.example.walkinggo.service.UserGroupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,12 +16,14 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,7 +33,13 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class UserGroupController {
 
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+    private static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final UserGroupService userGroupService;
+    private final GroupActivityService groupActivityService;
+    private final GroupChallengeService groupChallengeService;
+    private final ResourceVersionRegistry resourceVersionRegistry;
     private final Logger logger = LoggerFactory.getLogger(UserGroupController.class);
 
     @Operation(
@@ -36,12 +47,12 @@ public class UserGroupController {
             description = """
                           새로운 걷기 그룹을 생성합니다.
                           - **공개 그룹 (`isPublic: true`)**: `name`, `description`(선택), `isPublic` 필드를 사용합니다.
-                          - **비공개 그룹 (`isPublic: false`)**: `name`, `isPublic`, `participationCode` 필드를 사용합니다.
+                          - **비공개 그룹 (`isPublic: false`)**: `name`, `isPublic` 필드를 사용하며, 8자리 참여 코드는 서버가 발급해 응답에 포함합니다.
                           """
     )
     @ApiResponse(responseCode = "201", description = "그룹 생성 성공",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupResponse.class)))
-    @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 (예: 필수값 누락, 참여코드 중복/유효성 위반 등)",
+    @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 (예: 필수값 누락 등)",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
@@ -111,22 +122,60 @@ public class UserGroupController {
         }
     }
 
-    @Operation(summary = "공개 그룹 목록 조회")
-    @ApiResponse(responseCode = "200", description = "목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SimpleGroupResponse.class)))
+    @Operation(summary = "공개 그룹 목록 조회", description = "공개 그룹을 이름순으로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupPageResponse.class)))
+    @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/public")
-    public ResponseEntity<List<SimpleGroupResponse>> getPublicGroups() {
-        List<SimpleGroupResponse> groups = userGroupService.getPublicGroups();
-        return ResponseEntity.ok(groups);
+    public ResponseEntity<?> getPublicGroups(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        String etag = resourceVersionRegistry.etag(ResourceVersionRegistry.GROUPS);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        try {
+            GroupPageResponse groups = userGroupService.getPublicGroups(cursor, size);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(groups);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "공개 그룹 이름 검색", description = "이름에 검색어가 포함된 공개 그룹을 관련도 순으로 조회합니다. 한글 이름도 부분 일치로 검색할 수 있습니다.")
+    @ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupSearchResponse.class)))
+    @ApiResponse(responseCode = "400", description = "잘못된 페이지 요청", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPublicGroups(
+            @Parameter(description = "검색어", required = true, example = "한강") @RequestParam String query,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(userGroupService.searchPublicGroups(query, page, size));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
     }
 
     @Operation(summary = "그룹 상세 정보 조회")
     @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupResponse.class)))
     @ApiResponse(responseCode = "404", description = "그룹을 찾을 수 없음", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/{groupId}")
-    public ResponseEntity<?> getGroupDetails(@PathVariable Long groupId) {
+    public ResponseEntity<?> getGroupDetails(
+            @PathVariable Long groupId,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+        String viewerUsername = userDetails != null ? userDetails.getUsername() : null;
+        String etag = viewerUsername != null
+                ? resourceVersionRegistry.viewerEtag(viewerUsername, ResourceVersionRegistry.group(groupId))
+                : resourceVersionRegistry.etag(ResourceVersionRegistry.group(groupId));
+        CacheControl cacheControl = viewerUsername != null ? PRIVATE_REVALIDATE : REVALIDATE;
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
         try {
-            GroupResponse group = userGroupService.getGroupDetails(groupId);
-            return ResponseEntity.ok(group);
+            GroupResponse group = userGroupService.getGroupDetails(groupId, viewerUsername);
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(group);
         } catch (EntityNotFoundException e) {
             logger.warn("그룹 상세 정보 조회 실패: Group ID={}, 메시지={}", groupId, e.getMessage());
             return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
@@ -136,20 +185,26 @@ public class UserGroupController {
         }
     }
 
-    @Operation(summary = "그룹 상세 정보 조회 (멤버별 이동거리 포함)", description = "그룹의 기본 정보와 함께, 소속된 멤버 목록과 각 멤버의 총 이동거리를 반환합니다.")
+    @Operation(summary = "그룹 상세 정보 조회 (멤버별 이동거리 포함)", description = "그룹의 기본 정보와 함께, 이동거리순 멤버 목록 첫 페이지를 반환합니다. 다음 페이지는 nextMemberCursor로 /members를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공")
     @GetMapping("/{groupId}/details")
     public ResponseEntity<?> getGroupDetailsWithMemberDistances(
             @PathVariable Long groupId,
-            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
 
         if (userDetails == null) {
             return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
         }
 
+        String etag = resourceVersionRegistry.viewerEtag(userDetails.getUsername(), ResourceVersionRegistry.group(groupId));
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(PRIVATE_REVALIDATE).build();
+        }
+
         try {
             GroupDetailResponse groupDetails = userGroupService.getGroupDetailsWithMemberDistances(groupId, userDetails.getUsername());
-            return ResponseEntity.ok(groupDetails);
+            return ResponseEntity.ok().eTag(etag).cacheControl(PRIVATE_REVALIDATE).body(groupDetails);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
         }
@@ -182,18 +237,110 @@ public class UserGroupController {
         }
     }
 
-    @Operation(summary = "그룹 멤버 목록 조회", description = "특정 그룹에 속한 모든 멤버의 목록을 조회합니다.")
-    @ApiResponse(responseCode = "200", description = "멤버 목록 조회 성공",
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MemberResponse.class)))
+    @Operation(summary = "그룹 멤버 목록 조회", description = "그룹 멤버를 이동 거리(distance), 이름(name), 가입일(joined_at) 순으로 페이지 단위로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MemberPageResponse.class)))
+    @ApiResponse(responseCode = "400", description = "잘못된 정렬 기준, 커서 또는 페이지 크기",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "그룹을 찾을 수 없음",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/{groupId}/members")
-    public ResponseEntity<?> getGroupMembers(@PathVariable Long groupId) {
+    public ResponseEntity<?> getGroupMembers(
+            @PathVariable Long groupId,
+            @Parameter(description = "정렬 기준 (distance, name, joined_at)", example = "distance") @RequestParam(defaultValue = "distance") String sort,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "50") @RequestParam(defaultValue = "50") int size) {
         try {
-            List<MemberResponse> members = userGroupService.getGroupMembers(groupId);
+            MemberPageResponse members = userGroupService.getGroupMembers(groupId, MemberSortOrder.from(sort), cursor, size);
             return ResponseEntity.ok(members);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "그룹 활동 피드 조회", description = "그룹 멤버들의 산책 활동(누가, 언제, 얼마나 걸었는지)을 최신순으로 조회합니다. 비공개 그룹은 멤버만 조회할 수 있습니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupActivityPageResponse.class)))
+    @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "비공개 그룹의 멤버가 아님",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "그룹을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/{groupId}/activities")
+    public ResponseEntity<?> getGroupActivities(
+            @PathVariable Long groupId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "50") @RequestParam(defaultValue = "50") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            GroupActivityPageResponse activities = groupActivityService.getActivities(groupId, userDetails.getUsername(), cursor, size);
+            return ResponseEntity.ok(activities);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (AccessDeniedException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.FORBIDDEN);
+        }
+    }
+
+    @Operation(summary = "그룹 챌린지 생성 (소유자만 가능)", description = "기간 내 그룹 전체 누적 거리 목표를 가진 챌린지를 만듭니다. 멤버가 산책을 기록하면 진행도가 자동으로 누적됩니다.")
+    @ApiResponse(responseCode = "201", description = "생성 성공",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupChallengeResponse.class)))
+    @ApiResponse(responseCode = "400", description = "잘못된 기간 또는 요청 데이터",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "그룹 소유자가 아님",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "진행 중인 챌린지 수 제한 초과",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping("/{groupId}/challenges")
+    public ResponseEntity<?> createChallenge(
+            @PathVariable Long groupId,
+            @Valid @RequestBody GroupChallengeRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            GroupChallengeResponse challenge = groupChallengeService.createChallenge(groupId, userDetails.getUsername(), request);
+            return new ResponseEntity<>(challenge, HttpStatus.CREATED);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.CONFLICT);
+        } catch (AccessDeniedException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.FORBIDDEN);
+        }
+    }
+
+    @Operation(summary = "그룹 챌린지 목록 조회", description = "그룹의 챌린지와 진행도를 최신순으로 조회합니다. 비공개 그룹은 멤버만 조회할 수 있습니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupChallengeResponse.class)))
+    @ApiResponse(responseCode = "403", description = "비공개 그룹의 멤버가 아님",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "그룹을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/{groupId}/challenges")
+    public ResponseEntity<?> getChallenges(
+            @PathVariable Long groupId,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            return ResponseEntity.ok(groupChallengeService.getChallenges(groupId, userDetails.getUsername()));
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (AccessDeniedException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.FORBIDDEN);
         }
     }
 
@@ -243,10 +390,14 @@ public class UserGroupController {
     @ApiResponse(responseCode = "500", description = "서버 내부 오류",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/ranked-by-distance")
-    public ResponseEntity<?> getRankedGroupsByDistance() {
+    public ResponseEntity<?> getRankedGroupsByDistance(WebRequest webRequest) {
+        String etag = resourceVersionRegistry.etag(ResourceVersionRegistry.GROUPS, ResourceVersionRegistry.GROUP_RANKING);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
         try {
             List<RankedGroupResponse> rankedGroups = userGroupService.getRankedPublicGroupsByDistance();
-            return ResponseEntity.ok(rankedGroups);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(rankedGroups);
         } catch (Exception e) {
             logger.error("팀 랭킹(거리순) 조회 중 오류 발생", e);
             return new ResponseEntity<>(new ErrorResponse("팀 랭킹 조회 중 오류가 발생했습니다."), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -1,7 +1,12 @@
 package com.example.walkinggo.controller;
 
+import com.example.walkinggo.config.AsyncRequestConfig;
 import com.example.walkinggo.dto.*;
+import com.example.walkinggo.service.ResourceVersionRegistry;
+import com.example.walkinggo.service.WalkImportService;
+import com.example.walkinggo.service.WalkLogExportService;
 import com.example.walkinggo.service.WalkLogService;
+import com.example.walkinggo.util.WalkLogDedupeKeys;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,16 +18,27 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/walk-logs")
@@ -31,24 +47,53 @@ import java.util.List;
 public class WalkLogController {
 
     private final WalkLogService walkLogService;
+    private final WalkLogExportService walkLogExportService;
+    private final WalkImportService walkImportService;
+    private final ResourceVersionRegistry resourceVersionRegistry;
     private final Logger logger = LoggerFactory.getLogger(WalkLogController.class);
 
     @Operation(summary = "산책 기록 저장", description = "새로운 산책 기록을 저장합니다.")
     @ApiResponse(responseCode = "201", description = "기록 저장 성공", content = @Content(schema = @Schema(implementation = WalkLogResponse.class)))
     @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Idempotency-Key가 다른 기록에 이미 사용되었거나 동시에 업로드된 중복 기록을 아직 확인할 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @PostMapping
     public ResponseEntity<?> saveWalkLog(@Valid @RequestBody WalkLogRequest request,
+                                         @Parameter(description = "재전송 시 중복 저장을 막기 위한 클라이언트 생성 키 (선택)")
+                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                          @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
         if (userDetails == null) {
             return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
         }
         try {
-            WalkLogResponse response = walkLogService.saveWalkLog(userDetails.getUsername(), request);
+            WalkLogResponse response = walkLogService.saveWalkLog(userDetails.getUsername(), request, idempotencyKey);
             return new ResponseEntity<>(response, HttpStatus.CREATED);
+        } catch (DataIntegrityViolationException e) {
+            if (!WalkLogDedupeKeys.isDedupeKeyViolation(e)) {
+                logger.error("산책 기록 저장 중 제약 조건 위반: 사용자='{}'", userDetails.getUsername(), e);
+                return new ResponseEntity<>(new ErrorResponse("산책 기록 저장 중 오류가 발생했습니다."), HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            logger.info("동시 중복 업로드 감지, 기존 기록 반환: 사용자='{}'", userDetails.getUsername());
+            Optional<WalkLogResponse> duplicate;
+            try {
+                duplicate = walkLogService.findDuplicateUpload(userDetails.getUsername(), request, idempotencyKey);
+            } catch (IllegalStateException conflict) {
+                return new ResponseEntity<>(new ErrorResponse(conflict.getMessage()), HttpStatus.CONFLICT);
+            }
+            if (duplicate.isEmpty()) {
+                logger.warn("중복 업로드로 거부되었으나 기존 기록을 찾지 못함: 사용자='{}'", userDetails.getUsername());
+                return new ResponseEntity<>(new ErrorResponse("동시에 업로드된 산책 기록을 확인하지 못했습니다. 잠시 후 다시 시도해주세요."), HttpStatus.CONFLICT);
+            }
+            return new ResponseEntity<>(duplicate.get(), HttpStatus.CREATED);
         } catch (EntityNotFoundException e) {
             logger.warn("산책 기록 저장 실패 (사용자 없음): {}", e.getMessage());
             return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (IllegalArgumentException e) {
+            logger.warn("산책 기록 저장 실패 (잘못된 요청): 사용자='{}', 메시지={}", userDetails.getUsername(), e.getMessage());
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            logger.warn("산책 기록 저장 거부 (Idempotency-Key 재사용): 사용자='{}', 메시지={}", userDetails.getUsername(), e.getMessage());
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.CONFLICT);
         } catch (Exception e) {
             logger.error("산책 기록 저장 중 오류 발생: 사용자='{}'", userDetails.getUsername(), e);
             return new ResponseEntity<>(new ErrorResponse("산책 기록 저장 중 오류가 발생했습니다."), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -70,6 +115,81 @@ public class WalkLogController {
         }
     }
 
+    @Operation(summary = "내 산책 기록 내보내기", description = "로그인한 사용자의 전체 산책 기록을 NDJSON 또는 GPX 형식으로 스트리밍합니다. since를 지정하면 해당 시각 이후 기록만 내보냅니다.")
+    @ApiResponse(responseCode = "200", description = "내보내기 시작")
+    @ApiResponse(responseCode = "400", description = "지원하지 않는 형식", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/export")
+    public ResponseEntity<?> exportMyWalkLogs(
+            @Parameter(description = "내보내기 형식 (ndjson, gpx)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "이 시각 이후에 시작한 기록만 내보내기 (선택)", example = "2025-05-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        if (userDetails == null) {
+            return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            WalkLogExportFormat exportFormat = WalkLogExportFormat.from(format);
+            String username = userDetails.getUsername();
+            Long userId = walkLogExportService.resolveUserId(username);
+            webRequest.setAttribute(AsyncRequestConfig.TIMEOUT_ATTRIBUTE,
+                    walkLogExportService.getAsyncTimeoutMillis(), RequestAttributes.SCOPE_REQUEST);
+            StreamingResponseBody body = out -> walkLogExportService.export(userId, username, since, exportFormat, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"walk-logs." + exportFormat.getFileExtension() + "\"")
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Operation(summary = "과거 산책 기록 가져오기", description = "GPX 파일 또는 GPX 파일을 담은 ZIP 파일을 업로드하여 과거 산책 기록을 일괄 등록합니다. 처리는 비동기로 진행되며 작업 ID로 진행 상황을 조회할 수 있습니다.")
+    @ApiResponse(responseCode = "202", description = "가져오기 작업 등록", content = @Content(schema = @Schema(implementation = WalkImportJobResponse.class)))
+    @ApiResponse(responseCode = "400", description = "지원하지 않는 파일", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "진행 중인 작업이 많음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importWalkLogs(
+            @Parameter(description = "GPX 또는 ZIP 파일", required = true) @RequestParam("file") MultipartFile file,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            WalkImportJobResponse response = walkImportService.startImport(userDetails.getUsername(), file);
+            return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.CONFLICT);
+        } catch (Exception e) {
+            logger.error("산책 기록 가져오기 요청 처리 중 오류 발생: 사용자='{}'", userDetails.getUsername(), e);
+            return new ResponseEntity<>(new ErrorResponse("파일 업로드 중 오류가 발생했습니다."), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Operation(summary = "산책 기록 가져오기 진행 상황 조회", description = "가져오기 작업의 상태와 처리 건수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = WalkImportJobResponse.class)))
+    @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<?> getImportJob(@PathVariable UUID jobId,
+                                          @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return new ResponseEntity<>(new ErrorResponse("인증 정보가 없습니다."), HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            return ResponseEntity.ok(walkImportService.getJob(userDetails.getUsername(), jobId));
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(new ErrorResponse(e.getMessage()), HttpStatus.NOT_FOUND);
+        }
+    }
+
     @Operation(summary = "특정 날짜 산책 기록 조회", description = "로그인한 사용자의 특정 날짜 산책 기록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공")
     @GetMapping("/date")
@@ -131,9 +251,13 @@ public class WalkLogController {
 
     @Operation(summary = "추천 경로 목록 조회", description = "모든 사용자가 볼 수 있는 추천(공개) 경로 목록을 조회합니다.")
     @GetMapping("/recommended")
-    public ResponseEntity<List<RecommendedRouteResponse>> getRecommendedRoutes() {
+    public ResponseEntity<List<RecommendedRouteResponse>> getRecommendedRoutes(WebRequest webRequest) {
+        String etag = resourceVersionRegistry.etag(ResourceVersionRegistry.RECOMMENDED_ROUTES);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
         List<RecommendedRouteResponse> routes = walkLogService.getRecommendedRoutes();
-        return ResponseEntity.ok(routes);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(routes);
     }
 
     @Operation(summary = "추천 경로 상세 조회", description = "ID를 통해 특정 추천(공개) 경로의 상세 정보를 조회합니다.")
@@ -0,0 +1,39 @@
+package com.example.walkinggo.dto;
+
+import com.example.walkinggo.entity.CalorieRecomputeJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CalorieRecomputeJobResponse {
+
+    @Schema(description = "재계산 작업 ID")
+    private final Long jobId;
+    @Schema(description = "작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)")
+    private final String status;
+    @Schema(description = "재계산에 사용하는 체중 (kg)")
+    private final Double weightKg;
+    @Schema(description = "재계산한 산책 기록 수")
+    private final long processedWalks;
+    @Schema(description = "재계산 대상 산책 기록 수")
+    private final long totalWalks;
+    @Schema(description = "작업 메시지")
+    private final String message;
+    @Schema(description = "작업 요청 시간")
+    private final LocalDateTime createdAt;
+    @Schema(description = "작업 종료 시간")
+    private final LocalDateTime finishedAt;
+
+    public CalorieRecomputeJobResponse(CalorieRecomputeJob job) {
+        this.jobId = job.getId();
+        this.status = job.getStatus().name();
+        this.weightKg = job.getWeightKg();
+        this.processedWalks = job.getProcessedWalks();
+        this.totalWalks = job.getTotalWalks();
+        this.message = job.getLastError();
+        this.createdAt = job.getCreatedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+}
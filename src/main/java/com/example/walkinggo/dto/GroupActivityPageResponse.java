@@ -0,0 +1,17 @@
+package com.example.walkinggo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class GroupActivityPageResponse {
+
+    @Schema(description = "최신순으로 정렬된 그룹 활동 목록")
+    private final List<GroupActivityResponse> activities;
+    @Schema(description = "다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)")
+    private final String nextCursor;
+}
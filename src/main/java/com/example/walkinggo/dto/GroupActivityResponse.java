@@ -0,0 +1,36 @@
+package com.example.walkinggo.dto;
+
+import com.example.walkinggo.entity.GroupActivity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class GroupActivityResponse {
+
+    @Schema(description = "활동 ID")
+    private final Long activityId;
+    @Schema(description = "사용자 DB ID")
+    private final Long userId;
+    @Schema(description = "사용자 아이디 (username)")
+    private final String username;
+    @Schema(description = "산책 기록 ID (가져오기로 추가된 활동이면 null)")
+    private final Long walkLogId;
+    @Schema(description = "이 활동에 포함된 산책 기록 수")
+    private final int walkCount;
+    @Schema(description = "이동 거리 (km)")
+    private final double distanceKm;
+    @Schema(description = "산책 시각")
+    private final LocalDateTime walkedAt;
+
+    public GroupActivityResponse(GroupActivity activity, String username) {
+        this.activityId = activity.getId();
+        this.userId = activity.getUserId();
+        this.username = username;
+        this.walkLogId = activity.getWalkLogId();
+        this.walkCount = activity.getWalkCount();
+        this.distanceKm = Math.round(activity.getDistanceMeters() / 10.0) / 100.0;
+        this.walkedAt = activity.getWalkedAt();
+    }
+}
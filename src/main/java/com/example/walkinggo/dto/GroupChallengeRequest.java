@@ -0,0 +1,34 @@
+package com.example.walkinggo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class GroupChallengeRequest {
+
+    @NotBlank(message = "챌린지 제목은 필수입니다.")
+    @Size(max = 100, message = "챌린지 제목은 100자 이하로 입력해주세요.")
+    @Schema(description = "챌린지 제목", example = "이번 달 함께 500km 걷기")
+    private String title;
+
+    @NotNull(message = "목표 거리는 필수입니다.")
+    @DecimalMin(value = "0.1", message = "목표 거리는 0.1km 이상이어야 합니다.")
+    @Schema(description = "그룹 전체 목표 거리 (km)", example = "500.0")
+    private Double targetDistanceKm;
+
+    @NotNull(message = "시작 시각은 필수입니다.")
+    @Schema(description = "챌린지 시작 시각", example = "2025-06-01T00:00:00")
+    private LocalDateTime startsAt;
+
+    @NotNull(message = "종료 시각은 필수입니다.")
+    @Schema(description = "챌린지 종료 시각", example = "2025-07-01T00:00:00")
+    private LocalDateTime endsAt;
+}
@@ -0,0 +1,46 @@
+package com.example.walkinggo.dto;
+
+import com.example.walkinggo.entity.GroupChallenge;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class GroupChallengeResponse {
+
+    @Schema(description = "챌린지 ID")
+    private final Long challengeId;
+    @Schema(description = "그룹 ID")
+    private final Long groupId;
+    @Schema(description = "챌린지 제목")
+    private final String title;
+    @Schema(description = "목표 거리 (km)")
+    private final double targetDistanceKm;
+    @Schema(description = "현재까지 누적 거리 (km)")
+    private final double progressDistanceKm;
+    @Schema(description = "달성률 (0~100)")
+    private final double progressPercent;
+    @Schema(description = "챌린지 상태 (ACTIVE, COMPLETED, EXPIRED)")
+    private final String status;
+    @Schema(description = "시작 시각")
+    private final LocalDateTime startsAt;
+    @Schema(description = "종료 시각")
+    private final LocalDateTime endsAt;
+    @Schema(description = "달성 시각 (미달성이면 null)")
+    private final LocalDateTime completedAt;
+
+    public GroupChallengeResponse(GroupChallenge challenge) {
+        this.challengeId = challenge.getId();
+        this.groupId = challenge.getGroupId();
+        this.title = challenge.getTitle();
+        this.targetDistanceKm = Math.round(challenge.getTargetDistanceMeters() / 10.0) / 100.0;
+        this.progressDistanceKm = Math.round(challenge.getProgressDistanceMeters() / 10.0) / 100.0;
+        this.progressPercent = Math.min(100.0,
+                Math.round(challenge.getProgressDistanceMeters() / challenge.getTargetDistanceMeters() * 1000.0) / 10.0);
+        this.status = challenge.getStatus().name();
+        this.startsAt = challenge.getStartsAt();
+        this.endsAt = challenge.getEndsAt();
+        this.completedAt = challenge.getCompletedAt();
+    }
+}
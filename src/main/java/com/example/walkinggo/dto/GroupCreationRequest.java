@@ -3,7 +3,6 @@ package com.example.walkinggo.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
@@ -25,8 +24,4 @@ public class GroupCreationRequest {
     @Schema(description = "그룹 공개 여부 (true: 공개, false: 비공개)", example = "true")
     private Boolean isPublic;
 
-    @Schema(description = "비공개 그룹 생성 시 사용할 팀 코드 (숫자로만 구성된 문자열, 비공개 그룹인 경우 필수)", example = "123456")
-    @Pattern(regexp = "^[0-9]+$", message = "팀 코드는 숫자만 입력 가능합니다.")
-    @Size(min = 4, max = 16, message = "팀 코드는 4자리 이상 16자리 이하이어야 합니다.")
-    private String participationCode;
 }
\ No newline at end of file
@@ -30,14 +30,20 @@ public class GroupDetailResponse {
     @Schema(description = "비공개 그룹의 경우, 조회자가 멤버일 때만 보이는 참여 코드")
     private final String participationCode;
 
-    @Schema(description = "그룹 멤버 목록 (이동 거리순으로 정렬)")
+    @Schema(description = "그룹 멤버 수")
+    private final int memberCount;
+
+    @Schema(description = "그룹 멤버 목록 첫 페이지 (이동 거리순으로 정렬)")
     private final List<MemberDetailDto> members;
 
-    public static GroupDetailResponse from(UserGroup group, User currentUser, List<MemberDetailDto> members) {
-        boolean isOwner = group.getOwner().equals(currentUser);
+    @Schema(description = "다음 멤버 페이지 조회에 사용할 커서 (/members?sort=distance&cursor=...), 마지막 페이지면 null")
+    private final String nextMemberCursor;
+
+    public static GroupDetailResponse from(UserGroup group, User currentUser, boolean currentUserIsMember, MemberPageResponse members) {
+        boolean isOwner = group.getOwner().getId().equals(currentUser.getId());
         String code = null;
 
-        if (!group.getIsPublic() && group.getMembers().contains(currentUser)) {
+        if (!group.getIsPublic() && currentUserIsMember) {
             code = group.getParticipationCode();
         }
 
@@ -48,7 +54,9 @@ public class GroupDetailResponse {
                 .isOwner(isOwner)
                 .currentUserId(currentUser.getId())
                 .participationCode(code)
-                .members(members)
+                .memberCount(group.getMemberCount())
+                .members(members.getMembers())
+                .nextMemberCursor(members.getNextCursor())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.walkinggo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class GroupPageResponse {
+
+    @Schema(description = "이름순으로 정렬된 공개 그룹 목록")
+    private final List<SimpleGroupResponse> groups;
+    @Schema(description = "다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)")
+    private final String nextCursor;
+}
@@ -18,7 +18,7 @@ public class GroupResponse {
     private final String ownerUsername;
     @Schema(description = "공개 여부")
     private final Boolean isPublic;
-    @Schema(description = "비공개 그룹 참가 코드 (숫자로만 구성된 문자열, 비공개 그룹인 경우)")
+    @Schema(description = "비공개 그룹 참가 코드 (숫자로만 구성된 문자열, 비공개 그룹의 생성자에게만 제공)")
     private final String participationCode;
     @Schema(description = "현재 멤버 수")
     private final int memberCount;
@@ -26,17 +26,25 @@ public class GroupResponse {
     private final LocalDateTime createdAt;
 
     public GroupResponse(UserGroup group) {
+        this(group, true);
+    }
+
+    public GroupResponse(UserGroup group, boolean includeParticipationCode) {
         this.id = group.getId();
         this.name = group.getName();
         this.description = group.getDescription();
         this.ownerUsername = group.getOwner().getUsername();
         this.isPublic = group.getIsPublic();
-        this.participationCode = group.getParticipationCode();
-        this.memberCount = group.getMembers().size();
+        this.participationCode = includeParticipationCode ? group.getParticipationCode() : null;
+        this.memberCount = group.getMemberCount();
         this.createdAt = group.getCreatedAt();
     }
 
     public static GroupResponse fromEntity(UserGroup group) {
         return new GroupResponse(group);
     }
+
+    public static GroupResponse forViewer(UserGroup group, String viewerUsername) {
+        return new GroupResponse(group, group.getOwner().getUsername().equals(viewerUsername));
+    }
 }
\ No newline at end of file
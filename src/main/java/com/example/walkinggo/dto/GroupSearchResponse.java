@@ -0,0 +1,23 @@
+package com.example.walkinggo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class GroupSearchResponse {
+
+    @Schema(description = "검색어")
+    private final String query;
+    @Schema(description = "페이지 번호 (0부터 시작)")
+    private final int page;
+    @Schema(description = "페이지 크기")
+    private final int size;
+    @Schema(description = "전체 검색 결과 수")
+    private final int totalCount;
+    @Schema(description = "관련도 순으로 정렬된 공개 그룹 목록")
+    private final List<SimpleGroupResponse> groups;
+}
@@ -0,0 +1,23 @@
+package com.example.walkinggo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HeatmapTileResponse {
+
+    @Schema(description = "줌 레벨")
+    private final int z;
+    @Schema(description = "타일 X 좌표")
+    private final int x;
+    @Schema(description = "타일 Y 좌표")
+    private final int y;
+    @Schema(description = "타일 한 변의 셀 개수")
+    private final int cellsPerSide;
+    @Schema(description = "타일 내 최대 산책 횟수")
+    private final long maxCount;
+    @Schema(description = "[셀 X, 셀 Y, 산책 횟수] 순서로 이어 붙인 셀 목록")
+    private final long[] cells;
+}
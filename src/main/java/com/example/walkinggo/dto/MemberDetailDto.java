@@ -1,9 +1,11 @@
 package com.example.walkinggo.dto;
 
-import com.example.walkinggo.entity.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class MemberDetailDto {
 
@@ -19,10 +21,18 @@ public class MemberDetailDto {
     @Schema(description = "이 멤버가 그룹장인지 여부")
     private final boolean isOwner;
 
-    public MemberDetailDto(User user, Double totalDistanceMeters, boolean isOwner) {
-        this.userId = user.getId();
-        this.username = user.getUsername();
-        this.totalDistanceKm = (totalDistanceMeters != null) ? Math.round(totalDistanceMeters / 10.0) / 100.0 : 0.0;
-        this.isOwner = isOwner;
+    @Schema(description = "그룹 가입 시각")
+    private final LocalDateTime joinedAt;
+
+    @JsonIgnore
+    private final double totalDistanceMeters;
+
+    public MemberDetailDto(Long userId, String username, Double totalDistanceMeters, LocalDateTime joinedAt, Long ownerId) {
+        this.userId = userId;
+        this.username = username;
+        this.totalDistanceMeters = totalDistanceMeters != null ? totalDistanceMeters : 0.0;
+        this.totalDistanceKm = Math.round(this.totalDistanceMeters / 10.0) / 100.0;
+        this.isOwner = userId.equals(ownerId);
+        this.joinedAt = joinedAt;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.example.walkinggo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MemberPageResponse {
+
+    @Schema(description = "요청한 정렬 기준으로 정렬된 그룹 멤버 목록")
+    private final List<MemberDetailDto> members;
+    @Schema(description = "다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)")
+    private final String nextCursor;
+}
@@ -0,0 +1,16 @@
+package com.example.walkinggo.dto;
+
+public enum MemberSortOrder {
+    DISTANCE,
+    NAME,
+    JOINED_AT;
+
+    public static MemberSortOrder from(String value) {
+        for (MemberSortOrder order : values()) {
+            if (order.name().equalsIgnoreCase(value)) {
+                return order;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value);
+    }
+}
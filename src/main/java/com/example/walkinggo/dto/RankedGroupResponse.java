@@ -31,7 +31,7 @@ public class RankedGroupResponse {
         this.id = group.getId();
         this.name = group.getName();
         this.description = group.getDescription();
-        this.memberCount = group.getMembers() != null ? group.getMembers().size() : 0;
+        this.memberCount = group.getMemberCount();
         this.isPublic = group.getIsPublic();
         this.totalDistanceKm = (totalDistanceMeters != null) ? Math.round(totalDistanceMeters / 10.0) / 100.0 : 0.0;
         this.rank = rank;
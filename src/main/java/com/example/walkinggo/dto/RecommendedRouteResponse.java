@@ -1,6 +1,7 @@
 package com.example.walkinggo.dto;
 
 import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.service.RouteThumbnailService;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -18,13 +19,23 @@ public class RecommendedRouteResponse {
     private final Long durationSeconds;
     @Schema(description = "경로를 등록한 사용자 이름")
     private final String ownerUsername;
+    @Schema(description = "경로 썸네일 이미지 URL")
+    private final String thumbnailUrl;
+    @Schema(description = "이 경로와 거의 같은 다른 공개 경로의 수")
+    private final int similarRouteCount;
 
     public RecommendedRouteResponse(WalkLog walkLog) {
+        this(walkLog, 0);
+    }
+
+    public RecommendedRouteResponse(WalkLog walkLog, int similarRouteCount) {
         this.id = walkLog.getId();
         this.routeName = walkLog.getRouteName();
         this.routeDescription = walkLog.getRouteDescription();
         this.distanceKm = (walkLog.getDistanceMeters() != null) ? Math.round(walkLog.getDistanceMeters() / 10.0) / 100.0 : 0.0;
         this.durationSeconds = walkLog.getDurationSeconds();
         this.ownerUsername = walkLog.getUser().getUsername();
+        this.thumbnailUrl = RouteThumbnailService.urlOf(walkLog.getThumbnailHash());
+        this.similarRouteCount = similarRouteCount;
     }
 }
\ No newline at end of file
@@ -18,11 +18,15 @@ public class SimpleGroupResponse {
     private final boolean isPublic;
 
     public SimpleGroupResponse(UserGroup group) {
-        this.id = group.getId();
-        this.name = group.getName();
-        this.description = group.getDescription();
-        this.memberCount = group.getMembers().size();
-        this.isPublic = group.getIsPublic();
+        this(group.getId(), group.getName(), group.getDescription(), group.getMemberCount(), group.getIsPublic());
+    }
+
+    public SimpleGroupResponse(Long id, String name, String description, int memberCount, boolean isPublic) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.memberCount = memberCount;
+        this.isPublic = isPublic;
     }
 
     public static SimpleGroupResponse fromEntity(UserGroup group) {
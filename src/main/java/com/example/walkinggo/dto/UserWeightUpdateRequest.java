@@ -14,4 +14,7 @@ public class UserWeightUpdateRequest {
     @Positive(message = "체중은 양수여야 합니다.")
     @Schema(description = "수정할 사용자 체중 (kg)", example = "68.0")
     private Double weightKg;
+
+    @Schema(description = "과거 산책 기록의 칼로리를 새 체중으로 재계산할지 여부 (선택)", example = "false")
+    private Boolean recomputeCalories;
 }
\ No newline at end of file
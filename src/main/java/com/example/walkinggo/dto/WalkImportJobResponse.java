@@ -0,0 +1,47 @@
+package com.example.walkinggo.dto;
+
+import com.example.walkinggo.service.WalkImportJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+public class WalkImportJobResponse {
+
+    @Schema(description = "가져오기 작업 ID")
+    private final UUID jobId;
+    @Schema(description = "작업 상태 (QUEUED, RUNNING, COMPLETED, FAILED)")
+    private final String status;
+    @Schema(description = "해석한 트랙 수")
+    private final int parsedTracks;
+    @Schema(description = "저장한 산책 기록 수")
+    private final int importedWalks;
+    @Schema(description = "이미 존재하여 건너뛴 기록 수")
+    private final int skippedWalks;
+    @Schema(description = "해석 또는 변환에 실패한 트랙 수")
+    private final int failedTracks;
+    @Schema(description = "작업 메시지")
+    private final String message;
+    @Schema(description = "작업 시작 시간")
+    private final LocalDateTime startedAt;
+    @Schema(description = "작업 종료 시간")
+    private final LocalDateTime finishedAt;
+
+    public WalkImportJobResponse(WalkImportJob job) {
+        this.jobId = job.getId();
+        this.status = job.getStatus().name();
+        this.parsedTracks = job.getParsedTracks().get();
+        this.importedWalks = job.getImportedWalks().get();
+        this.skippedWalks = job.getSkippedWalks().get();
+        this.failedTracks = job.getFailedTracks().get();
+        this.message = job.getMessage();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+
+    public static WalkImportJobResponse fromJob(WalkImportJob job) {
+        return new WalkImportJobResponse(job);
+    }
+}
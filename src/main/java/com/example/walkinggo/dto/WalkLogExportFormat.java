@@ -0,0 +1,23 @@
+package com.example.walkinggo.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WalkLogExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    GPX("application/gpx+xml", "gpx");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    public static WalkLogExportFormat from(String value) {
+        for (WalkLogExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
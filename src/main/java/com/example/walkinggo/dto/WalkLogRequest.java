@@ -30,8 +30,8 @@ public class WalkLogRequest {
     @Schema(description = "총 걸음 수", example = "6000")
     private Integer steps;
 
-    @NotNull(message = "소모 칼로리는 필수입니다.")
-    @Schema(description = "소모 칼로리 (프론트엔드에서 계산된 값)", example = "350.7")
+    @Min(value = 0, message = "소모 칼로리는 0 이상이어야 합니다.")
+    @Schema(description = "소모 칼로리 (선택, 생략하면 사용자 체중과 이동 시간으로 서버에서 계산)", example = "350.7")
     private Double caloriesBurned;
 
     @Schema(description = "경로 좌표 JSON 문자열")
@@ -1,6 +1,7 @@
 package com.example.walkinggo.dto;
 
 import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.service.RouteThumbnailService;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -24,6 +25,18 @@ public class WalkLogResponse {
     private final Long durationSeconds;
     @Schema(description = "산책 거리 (미터)")
     private final Double distanceMeters;
+    @Schema(description = "이동 시간 (초)")
+    private final Long movingTimeSeconds;
+    @Schema(description = "평균 이동 속도 (m/s)")
+    private final Double averageSpeedMps;
+    @Schema(description = "최고 이동 속도 (m/s)")
+    private final Double maxSpeedMps;
+    @Schema(description = "평균 페이스 (초/km)")
+    private final Double averagePaceSecondsPerKm;
+    @Schema(description = "1km 구간별 소요 시간 (초) JSON 배열")
+    private final String paceSplitsJson;
+    @Schema(description = "노이즈 필터링으로 제거된 좌표 수")
+    private final Integer droppedPointCount;
 
     @Schema(description = "총 걸음 수")
     private final Integer steps;
@@ -32,10 +45,18 @@ public class WalkLogResponse {
     private final Double caloriesBurned;
     @Schema(description = "경로 좌표 JSON")
     private final String routeCoordinatesJson;
+    @Schema(description = "오래된 기록이라 경로 좌표가 압축 보관소로 이동되었는지 여부")
+    private final boolean routeArchived;
+    @Schema(description = "경로 썸네일 이미지 URL")
+    private final String thumbnailUrl;
     @Schema(description = "기록 생성 시간")
     private final LocalDateTime createdAt;
 
     public WalkLogResponse(WalkLog walkLog) {
+        this(walkLog, walkLog.getRouteCoordinatesJson());
+    }
+
+    public WalkLogResponse(WalkLog walkLog, String routeCoordinatesJson) {
         this.id = walkLog.getId();
         this.username = walkLog.getUser().getUsername();
         this.routeName = walkLog.getRouteName();
@@ -43,9 +64,17 @@ public class WalkLogResponse {
         this.endTime = walkLog.getEndTime();
         this.durationSeconds = walkLog.getDurationSeconds();
         this.distanceMeters = walkLog.getDistanceMeters();
+        this.movingTimeSeconds = walkLog.getMovingTimeSeconds();
+        this.averageSpeedMps = walkLog.getAverageSpeedMps();
+        this.maxSpeedMps = walkLog.getMaxSpeedMps();
+        this.averagePaceSecondsPerKm = walkLog.getAveragePaceSecondsPerKm();
+        this.paceSplitsJson = walkLog.getPaceSplitsJson();
+        this.droppedPointCount = walkLog.getDroppedPointCount();
         this.steps = walkLog.getSteps();
         this.caloriesBurned = walkLog.getCaloriesBurned();
-        this.routeCoordinatesJson = walkLog.getRouteCoordinatesJson();
+        this.routeCoordinatesJson = routeCoordinatesJson;
+        this.routeArchived = walkLog.isRouteArchived() && routeCoordinatesJson == null;
+        this.thumbnailUrl = RouteThumbnailService.urlOf(walkLog.getThumbnailHash());
         this.createdAt = walkLog.getCreatedAt();
     }
 
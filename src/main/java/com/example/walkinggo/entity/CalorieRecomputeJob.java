@@ -0,0 +1,63 @@
+package com.example.walkinggo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "calorie_recompute_jobs", indexes = {
+        @Index(name = "idx_calorie_recompute_jobs_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_calorie_recompute_jobs_status_id", columnList = "status, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalorieRecomputeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private Double weightKg;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private long generation = 0L;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private CalorieRecomputeJobStatus status = CalorieRecomputeJobStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private long lastWalkLogId = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private long processedWalks = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private long totalWalks = 0L;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+
+    public boolean isFinished() {
+        return status == CalorieRecomputeJobStatus.COMPLETED || status == CalorieRecomputeJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.walkinggo.entity;
+
+public enum CalorieRecomputeJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
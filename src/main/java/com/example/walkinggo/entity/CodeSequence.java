@@ -0,0 +1,21 @@
+package com.example.walkinggo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "code_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CodeSequence {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private long nextValue;
+}
@@ -0,0 +1,38 @@
+package com.example.walkinggo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "group_activities", indexes = {
+        @Index(name = "idx_group_activities_group_id", columnList = "group_id, id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long groupId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private Long walkLogId;
+
+    @Column(nullable = false)
+    private int walkCount;
+
+    @Column(nullable = false)
+    private double distanceMeters;
+
+    @Column(nullable = false)
+    private LocalDateTime walkedAt;
+}
@@ -0,0 +1,53 @@
+package com.example.walkinggo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "group_challenges", indexes = {
+        @Index(name = "idx_group_challenges_group_status", columnList = "group_id, status"),
+        @Index(name = "idx_group_challenges_status_ends_at", columnList = "status, ends_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupChallenge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long groupId;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(nullable = false)
+    private double targetDistanceMeters;
+
+    @Column(nullable = false, columnDefinition = "DOUBLE DEFAULT 0.0")
+    @Builder.Default
+    private double progressDistanceMeters = 0.0;
+
+    @Column(nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endsAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private GroupChallengeStatus status = GroupChallengeStatus.ACTIVE;
+
+    private LocalDateTime completedAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
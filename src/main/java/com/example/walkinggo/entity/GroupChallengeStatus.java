@@ -0,0 +1,7 @@
+package com.example.walkinggo.entity;
+
+public enum GroupChallengeStatus {
+    ACTIVE,
+    COMPLETED,
+    EXPIRED
+}
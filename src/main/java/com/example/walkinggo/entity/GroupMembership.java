@@ -0,0 +1,40 @@
+package com.example.walkinggo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Immutable
+@IdClass(GroupMembershipId.class)
+@Table(name = "group_members", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_group_members_user", columnNames = "user_id")
+}, indexes = {
+        @Index(name = "idx_group_members_group_joined_user", columnList = "group_id, joined_at, user_id")
+})
+@Getter
+@NoArgsConstructor
+public class GroupMembership {
+
+    @Id
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", insertable = false, updatable = false)
+    private UserGroup group;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    private User user;
+
+    @Column(name = "joined_at", insertable = false, updatable = false, columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime joinedAt;
+}
@@ -0,0 +1,16 @@
+package com.example.walkinggo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupMembershipId implements Serializable {
+
+    private Long groupId;
+    private Long userId;
+}
@@ -0,0 +1,38 @@
+package com.example.walkinggo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "heatmap_cells", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_heatmap_cells_tile_cell", columnNames = {"zoom", "tile_x", "tile_y", "cell_y", "cell_x"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeatmapCell {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private int zoom;
+
+    @Column(name = "tile_x", nullable = false)
+    private int tileX;
+
+    @Column(name = "tile_y", nullable = false)
+    private int tileY;
+
+    @Column(name = "cell_x", nullable = false)
+    private int cellX;
+
+    @Column(name = "cell_y", nullable = false)
+    private int cellY;
+
+    @Column(nullable = false)
+    private long walkCount;
+}
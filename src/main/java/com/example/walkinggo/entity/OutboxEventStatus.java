@@ -0,0 +1,7 @@
+package com.example.walkinggo.entity;
+
+public enum OutboxEventStatus {
+    PENDING,
+    PROCESSED,
+    DEAD
+}
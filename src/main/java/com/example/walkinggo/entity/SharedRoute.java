@@ -23,7 +23,7 @@ public class SharedRoute {
     private UUID shareId;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "walk_log_id", nullable = false, unique = true)
+    @JoinColumn(name = "walk_log_id", nullable = false, unique = true, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private WalkLog walkLog;
 
     @CreationTimestamp
@@ -40,4 +40,8 @@ public class User {
     @Schema(description = "사용자 목표 거리 (km)", example = "5.0")
     @Column
     private Double targetDistanceKm;
+
+    @Schema(description = "사용자의 총 누적 이동 거리 (미터 단위)")
+    @Column(nullable = false, columnDefinition = "DOUBLE DEFAULT 0.0")
+    private Double totalDistanceMeters = 0.0;
 }
\ No newline at end of file
@@ -9,7 +9,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "user_groups")
+@Table(name = "user_groups", indexes = {
+        @Index(name = "idx_user_groups_public_name_id", columnList = "is_public, name, id"),
+        @Index(name = "idx_user_groups_public_distance", columnList = "is_public, total_distance_meters DESC, name")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -55,13 +58,8 @@ public class UserGroup {
     @Builder.Default
     private Double totalDistanceMeters = 0.0;
 
-    public void addMember(User user) {
-        this.members.add(user);
-        user.getGroups().add(this);
-    }
-
-    public void removeMember(User user) {
-        this.members.remove(user);
-        user.getGroups().remove(this);
-    }
+    @Schema(description = "현재 멤버 수")
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private int memberCount = 0;
 }
\ No newline at end of file
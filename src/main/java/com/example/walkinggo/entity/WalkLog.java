@@ -8,7 +8,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "walk_logs")
+@Table(name = "walk_logs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_walk_logs_user_dedupe_key_start", columnNames = {"user_id", "dedupe_key", "start_time"})
+}, indexes = {
+        @Index(name = "idx_walk_logs_user_start_time", columnList = "user_id, start_time"),
+        @Index(name = "idx_walk_logs_public_created", columnList = "is_public_route, created_at"),
+        @Index(name = "idx_walk_logs_user_calories_id", columnList = "user_id, calories_user_provided, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +27,7 @@ public class WalkLog {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Column(nullable = false)
@@ -34,6 +40,28 @@ public class WalkLog {
 
     private Double distanceMeters;
 
+    @Schema(description = "클라이언트가 보고한 산책 거리 (미터)")
+    private Double reportedDistanceMeters;
+
+    @Schema(description = "경로 좌표 기준 이동 시간 (초)")
+    private Long movingTimeSeconds;
+
+    @Schema(description = "평균 이동 속도 (m/s)")
+    private Double averageSpeedMps;
+
+    @Schema(description = "최고 이동 속도 (m/s)")
+    private Double maxSpeedMps;
+
+    @Schema(description = "평균 페이스 (초/km)")
+    private Double averagePaceSecondsPerKm;
+
+    @Schema(description = "노이즈 필터링으로 제거된 좌표 수")
+    private Integer droppedPointCount;
+
+    @Schema(description = "1km 구간별 소요 시간 (초) JSON 배열")
+    @Column(columnDefinition = "TEXT")
+    private String paceSplitsJson;
+
     private Integer steps;
 
     private Double caloriesBurned;
@@ -46,6 +74,10 @@ public class WalkLog {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Schema(description = "중복 업로드 방지 키 (Idempotency-Key 또는 내용 해시)")
+    @Column(name = "dedupe_key", length = 64, updatable = false)
+    private String dedupeKey;
+
     @Schema(description = "사용자가 등록한 경로 이름 (공개 시 사용)")
     @Column(length = 100)
     private String routeName;
@@ -58,4 +90,24 @@ public class WalkLog {
     @Column(nullable = false)
     private boolean isPublicRoute = false;
 
+    @Schema(description = "클라이언트가 직접 입력한 소모 칼로리인지 여부 (체중 변경 시 재계산 제외)")
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean caloriesUserProvided = false;
+
+    @Schema(description = "경로 좌표가 압축 보관소로 옮겨졌는지 여부")
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean routeArchived = false;
+
+    @Schema(description = "히트맵 집계 반영 여부")
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean heatmapAggregated = false;
+
+    @Schema(description = "경로 유사도 비교용 MinHash 지문")
+    @Column(length = 128)
+    private byte[] routeFingerprint;
+
+    @Schema(description = "경로 썸네일 이미지 해시 (SHA-256)")
+    @Column(length = 64)
+    private String thumbnailHash;
+
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.walkinggo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "walk_log_route_archives")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkLogRouteArchive {
+
+    @Id
+    private Long walkLogId;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] routeGzip;
+
+    @Column(nullable = false)
+    private int originalBytes;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,12 @@
+package com.example.walkinggo.event;
+
+import com.example.walkinggo.entity.OutboxEvent;
+
+import java.util.Set;
+
+public interface OutboxEventHandler {
+
+    Set<OutboxEventType> getEventTypes();
+
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,7 @@
+package com.example.walkinggo.event;
+
+public enum OutboxEventType {
+    WALK_LOG_CREATED,
+    WALK_LOGS_IMPORTED,
+    ROUTE_PUBLISHED
+}
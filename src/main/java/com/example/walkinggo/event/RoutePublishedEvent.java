@@ -0,0 +1,4 @@
+package com.example.walkinggo.event;
+
+public record RoutePublishedEvent(Long walkLogId, Long userId) {
+}
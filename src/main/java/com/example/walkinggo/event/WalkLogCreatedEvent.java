@@ -0,0 +1,6 @@
+package com.example.walkinggo.event;
+
+import java.time.LocalDateTime;
+
+public record WalkLogCreatedEvent(Long walkLogId, Long userId, Double distanceMeters, LocalDateTime startTime) {
+}
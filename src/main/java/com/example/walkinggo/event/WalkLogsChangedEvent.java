@@ -0,0 +1,6 @@
+package com.example.walkinggo.event;
+
+import java.util.Collection;
+
+public record WalkLogsChangedEvent(Collection<Long> walkLogIds) {
+}
@@ -0,0 +1,4 @@
+package com.example.walkinggo.event;
+
+public record WalkLogsImportedEvent(Long userId, int importedCount, Double totalDistanceMeters) {
+}
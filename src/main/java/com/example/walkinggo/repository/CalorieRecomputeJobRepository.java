@@ -0,0 +1,27 @@
+package com.example.walkinggo.repository;
+
+import com.example.walkinggo.entity.CalorieRecomputeJob;
+import com.example.walkinggo.entity.CalorieRecomputeJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface CalorieRecomputeJobRepository extends JpaRepository<CalorieRecomputeJob, Long> {
+
+    Optional<CalorieRecomputeJob> findFirstByUserIdOrderByIdDesc(Long userId);
+
+    Optional<CalorieRecomputeJob> findFirstByUserIdAndStatusInOrderByIdDesc(Long userId, Collection<CalorieRecomputeJobStatus> statuses);
+
+    Optional<CalorieRecomputeJob> findFirstByStatusInOrderByIdAsc(Collection<CalorieRecomputeJobStatus> statuses);
+
+    @Modifying
+    @Query("UPDATE CalorieRecomputeJob j SET j.lastWalkLogId = :lastWalkLogId, j.processedWalks = j.processedWalks + :processed, " +
+            "j.status = com.example.walkinggo.entity.CalorieRecomputeJobStatus.RUNNING " +
+            "WHERE j.id = :jobId AND j.generation = :generation AND j.lastWalkLogId = :expectedLastWalkLogId")
+    int advance(@Param("jobId") Long jobId, @Param("generation") long generation, @Param("expectedLastWalkLogId") long expectedLastWalkLogId,
+                @Param("lastWalkLogId") long lastWalkLogId, @Param("processed") long processed);
+}
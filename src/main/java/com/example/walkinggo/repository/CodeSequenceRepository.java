@@ -0,0 +1,22 @@
+package com.example.walkinggo.repository;
+
+import com.example.walkinggo.entity.CodeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CodeSequenceRepository extends JpaRepository<CodeSequence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CodeSequence s WHERE s.name = :name")
+    Optional<CodeSequence> findForUpdate(@Param("name") String name);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO code_sequences (name, next_value) VALUES (:name, 0)", nativeQuery = true)
+    int createIfAbsent(@Param("name") String name);
+}
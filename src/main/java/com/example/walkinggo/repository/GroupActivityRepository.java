@@ -0,0 +1,21 @@
+package com.example.walkinggo.repository;
+
+import com.example.walkinggo.entity.GroupActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface GroupActivityRepository extends JpaRepository<GroupActivity, Long> {
+
+    List<GroupActivity> findByGroupIdOrderByIdDesc(Long groupId, Pageable pageable);
+
+    List<GroupActivity> findByGroupIdAndIdLessThanOrderByIdDesc(Long groupId, Long beforeId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM GroupActivity a WHERE a.groupId = :groupId")
+    int deleteAllOfGroup(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,36 @@
+package com.example.walkinggo.repository;
+
+import com.example.walkinggo.entity.GroupChallenge;
+import com.example.walkinggo.entity.GroupChallengeStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GroupChallengeRepository extends JpaRepository<GroupChallenge, Long> {
+
+    List<GroupChallenge> findByGroupIdOrderByIdDesc(Long groupId);
+
+    long countByGroupIdAndStatus(Long groupId, GroupChallengeStatus status);
+
+    @Modifying
+    @Query(value = "UPDATE group_challenges " +
+            "SET status = CASE WHEN progress_distance_meters + :distance >= target_distance_meters THEN 'COMPLETED' ELSE status END, " +
+            "completed_at = CASE WHEN status = 'COMPLETED' THEN :now ELSE completed_at END, " +
+            "progress_distance_meters = progress_distance_meters + :distance " +
+            "WHERE group_id = :groupId AND status = 'ACTIVE' AND starts_at <= :walkedAt AND ends_at > :walkedAt", nativeQuery = true)
+    int addProgress(@Param("groupId") Long groupId, @Param("distance") double distance,
+                    @Param("walkedAt") LocalDateTime walkedAt, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE group_challenges SET status = 'EXPIRED' " +
+            "WHERE status = 'ACTIVE' AND ends_at <= :now LIMIT :limit", nativeQuery = true)
+    int expireEndedBefore(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM GroupChallenge c WHERE c.groupId = :groupId")
+    int deleteAllOfGroup(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,45 @@
+package com.example.walkinggo.repository;
+
+import com.example.walkinggo.dto.MemberDetailDto;
+import com.example.walkinggo.entity.GroupMembership;
+import com.example.walkinggo.entity.GroupMembershipId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GroupMembershipRepository extends JpaRepository<GroupMembership, GroupMembershipId> {
+
+    String MEMBER_PROJECTION = "SELECT new com.example.walkinggo.dto.MemberDetailDto(u.id, u.username, u.totalDistanceMeters, gm.joinedAt, g.owner.id) " +
+            "FROM GroupMembership gm JOIN gm.user u JOIN gm.group g WHERE gm.groupId = :groupId ";
+
+    @Query(MEMBER_PROJECTION + "ORDER BY u.totalDistanceMeters DESC, u.id ASC")
+    List<MemberDetailDto> findMembersByDistance(@Param("groupId") Long groupId, Pageable pageable);
+
+    @Query(MEMBER_PROJECTION +
+            "AND (u.totalDistanceMeters < :afterDistance OR (u.totalDistanceMeters = :afterDistance AND u.id > :afterId)) " +
+            "ORDER BY u.totalDistanceMeters DESC, u.id ASC")
+    List<MemberDetailDto> findMembersByDistanceAfter(@Param("groupId") Long groupId, @Param("afterDistance") Double afterDistance,
+                                                     @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(MEMBER_PROJECTION + "ORDER BY u.username ASC, u.id ASC")
+    List<MemberDetailDto> findMembersByName(@Param("groupId") Long groupId, Pageable pageable);
+
+    @Query(MEMBER_PROJECTION +
+            "AND (u.username > :afterName OR (u.username = :afterName AND u.id > :afterId)) " +
+            "ORDER BY u.username ASC, u.id ASC")
+    List<MemberDetailDto> findMembersByNameAfter(@Param("groupId") Long groupId, @Param("afterName") String afterName,
+                                                 @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(MEMBER_PROJECTION + "ORDER BY gm.joinedAt ASC, u.id ASC")
+    List<MemberDetailDto> findMembersByJoinedAt(@Param("groupId") Long groupId, Pageable pageable);
+
+    @Query(MEMBER_PROJECTION +
+            "AND (gm.joinedAt > :afterJoinedAt OR (gm.joinedAt = :afterJoinedAt AND u.id > :afterId)) " +
+            "ORDER BY gm.joinedAt ASC, u.id ASC")
+    List<MemberDetailDto> findMembersByJoinedAtAfter(@Param("groupId") Long groupId, @Param("afterJoinedAt") LocalDateTime afterJoinedAt,
+                                                     @Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package com.example.walkinggo.repository;
+
+import com.example.walkinggo.entity.HeatmapCell;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface HeatmapCellRepository extends JpaRepository<HeatmapCell, Long> {
+
+    List<HeatmapCell> findByZoomAndTileXAndTileY(int zoom, int tileX, int tileY);
+}
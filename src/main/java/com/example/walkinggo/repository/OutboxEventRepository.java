@@ -0,0 +1,43 @@
+package com.example.walkinggo.repository;
+
+import com.example.walkinggo.entity.OutboxEvent;
+import com.example.walkinggo.entity.OutboxEventStatus;
+import com.example.walkinggo.event.OutboxEventType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByUserIdAndStatusOrderByIdAsc(Long userId, OutboxEventStatus status, Pageable pageable);
+
+    Optional<OutboxEvent> findFirstByStatusOrderByIdAsc(OutboxEventStatus status);
+
+    List<OutboxEvent> findByStatusAndEventType(OutboxEventStatus status, OutboxEventType eventType);
+
+    @Query(value = "SELECT e.user_id FROM outbox_events e " +
+            "JOIN (SELECT user_id, MIN(id) AS head_id FROM outbox_events WHERE status = 'PENDING' GROUP BY user_id) h " +
+            "ON h.head_id = e.id " +
+            "WHERE e.next_attempt_at IS NULL OR e.next_attempt_at <= :now " +
+            "ORDER BY e.id ASC LIMIT :limit", nativeQuery = true)
+    List<Long> findUsersWithDueHeadEvent(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.example.walkinggo.entity.OutboxEventStatus.PROCESSED, e.processedAt = :processedAt WHERE e.id = :id")
+    int markProcessed(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") OutboxEventStatus status, @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = com.example.walkinggo.entity.OutboxEventStatus.PROCESSED AND e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
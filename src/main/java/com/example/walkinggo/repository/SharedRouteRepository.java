@@ -2,12 +2,18 @@ package com.example.walkinggo.repository;
 
 import com.example.walkinggo.entity.SharedRoute;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SharedRouteRepository extends JpaRepository<SharedRoute, Long> {
     Optional<SharedRoute> findByShareId(UUID shareId);
 
+    @Query("SELECT sr FROM SharedRoute sr JOIN FETCH sr.walkLog wl JOIN FETCH wl.user WHERE sr.shareId = :shareId")
+    Optional<SharedRoute> findWithWalkLogByShareId(@Param("shareId") UUID shareId);
+
     boolean existsByWalkLogId(Long walkLogId);
 
     Optional<SharedRoute> findByWalkLogId(Long walkLogId);
@@ -1,7 +1,10 @@
 package com.example.walkinggo.repository;
 
+import com.example.walkinggo.dto.SimpleGroupResponse;
 import com.example.walkinggo.entity.UserGroup;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
@@ -9,18 +12,72 @@ import java.util.Optional;
 
 public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
 
-    Optional<UserGroup> findByParticipationCode(String participationCode);
+    @Query("SELECT ug.id FROM UserGroup ug WHERE ug.participationCode = :code")
+    Optional<Long> findIdByParticipationCode(@Param("code") String code);
 
-    List<UserGroup> findByIsPublicTrueOrderByNameAsc();
+    @Query("SELECT ug.isPublic FROM UserGroup ug WHERE ug.id = :groupId")
+    Optional<Boolean> findIsPublicById(@Param("groupId") Long groupId);
 
-    boolean existsByParticipationCode(String participationCode);
+    @Query("SELECT ug.participationCode, ug.id FROM UserGroup ug WHERE ug.participationCode IS NOT NULL")
+    List<Object[]> findParticipationCodes();
+
+    @Query("SELECT new com.example.walkinggo.dto.SimpleGroupResponse(ug.id, ug.name, ug.description, ug.memberCount, ug.isPublic) " +
+            "FROM UserGroup ug WHERE ug.isPublic = true ORDER BY ug.name ASC, ug.id ASC")
+    List<SimpleGroupResponse> findPublicGroupPage(Pageable pageable);
+
+    @Query("SELECT new com.example.walkinggo.dto.SimpleGroupResponse(ug.id, ug.name, ug.description, ug.memberCount, ug.isPublic) " +
+            "FROM UserGroup ug WHERE ug.isPublic = true " +
+            "AND (ug.name > :afterName OR (ug.name = :afterName AND ug.id > :afterId)) " +
+            "ORDER BY ug.name ASC, ug.id ASC")
+    List<SimpleGroupResponse> findPublicGroupPageAfter(@Param("afterName") String afterName, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE user_groups g SET g.member_count = (SELECT COUNT(*) FROM group_members gm WHERE gm.group_id = g.id) " +
+            "WHERE g.member_count = 0", nativeQuery = true)
+    int backfillMemberCounts();
 
     @Query("SELECT CASE WHEN COUNT(ug) > 0 THEN true ELSE false END " +
             "FROM UserGroup ug JOIN ug.members m " +
             "WHERE ug.id = :groupId AND m.username = :username")
     boolean isUserMemberOfGroup(@Param("groupId") Long groupId, @Param("username") String username);
 
-    List<UserGroup> findByNameContainingIgnoreCaseAndIsPublicTrue(String name);
+    @Query("SELECT ug.id, ug.name FROM UserGroup ug WHERE ug.isPublic = true")
+    List<Object[]> findPublicGroupNames();
 
     List<UserGroup> findByIsPublicTrueOrderByTotalDistanceMetersDescNameAsc();
+
+    @Query(value = "SELECT COUNT(*) FROM group_members WHERE group_id = :groupId AND user_id = :userId", nativeQuery = true)
+    long countMembership(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM group_members WHERE user_id = :userId", nativeQuery = true)
+    long countGroupsOfUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO group_members (group_id, user_id) VALUES (:groupId, :userId)", nativeQuery = true)
+    int insertMembership(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM group_members WHERE group_id = :groupId AND user_id = :userId", nativeQuery = true)
+    int deleteMembership(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM group_members WHERE group_id = :groupId", nativeQuery = true)
+    int deleteMembershipsOfGroup(@Param("groupId") Long groupId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserGroup ug WHERE ug.id = :groupId")
+    int deleteGroupById(@Param("groupId") Long groupId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserGroup ug SET ug.memberCount = ug.memberCount + :delta WHERE ug.id = :groupId")
+    int adjustMemberCount(@Param("groupId") Long groupId, @Param("delta") int delta);
+
+    @Query(value = "SELECT gm.group_id FROM group_members gm WHERE gm.user_id = :userId", nativeQuery = true)
+    List<Long> findGroupIdsByMemberId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE user_groups g JOIN group_members gm ON gm.group_id = g.id " +
+            "SET g.total_distance_meters = g.total_distance_meters + :distance " +
+            "WHERE gm.user_id = :userId", nativeQuery = true)
+    int addDistanceToGroupsOfUser(@Param("userId") Long userId, @Param("distance") Double distance);
 }
\ No newline at end of file
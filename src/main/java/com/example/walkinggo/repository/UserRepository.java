@@ -2,8 +2,27 @@ package com.example.walkinggo.repository;
 
 import com.example.walkinggo.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
-}
\ No newline at end of file
+
+    @Query("SELECT u.id, u.username FROM User u WHERE u.id IN :ids")
+    List<Object[]> findUsernamesByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE User u SET u.totalDistanceMeters = u.totalDistanceMeters + :distance WHERE u.id = :userId")
+    int addTotalDistance(@Param("userId") Long userId, @Param("distance") Double distance);
+
+    @Modifying
+    @Query(value = "UPDATE users u SET u.total_distance_meters = " +
+            "(SELECT COALESCE(SUM(wl.distance_meters), 0) FROM walk_logs wl WHERE wl.user_id = u.id) " +
+            "WHERE u.total_distance_meters = 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events o WHERE o.user_id = u.id AND o.status = 'PENDING')", nativeQuery = true)
+    int backfillTotalDistances();
+}
@@ -2,12 +2,18 @@ package com.example.walkinggo.repository;
 
 import com.example.walkinggo.entity.User;
 import com.example.walkinggo.entity.WalkLog;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface WalkLogRepository extends JpaRepository<WalkLog, Long> {
 
@@ -19,8 +25,67 @@ public interface WalkLogRepository extends JpaRepository<WalkLog, Long> {
     @Query(value = "SELECT DISTINCT DATE(start_time) FROM walk_logs WHERE user_id = :userId AND start_time >= :startOfMonth AND start_time < :endOfMonth", nativeQuery = true)
     List<java.sql.Date> findActiveDatesInMonthByUser(@Param("userId") Long userId, @Param("startOfMonth") LocalDateTime startOfMonth, @Param("endOfMonth") LocalDateTime endOfMonth);
 
-    @Query("SELECT wl.user.id, SUM(wl.distanceMeters) FROM WalkLog wl WHERE wl.user IN :users GROUP BY wl.user.id")
-    List<Object[]> findTotalDistanceByUsers(@Param("users") List<User> users);
-
     List<WalkLog> findByIsPublicRouteTrueOrderByCreatedAtDesc();
-}
\ No newline at end of file
+
+    @Query("SELECT wl FROM WalkLog wl WHERE wl.isPublicRoute = true AND wl.id NOT IN :excludedIds ORDER BY wl.createdAt DESC")
+    List<WalkLog> findPublicRoutesExcluding(@Param("excludedIds") Collection<Long> excludedIds);
+
+    List<WalkLog> findByUserAndDedupeKey(User user, String dedupeKey);
+
+    @Query("SELECT wl.dedupeKey FROM WalkLog wl WHERE wl.user.id = :userId AND wl.dedupeKey IN :dedupeKeys")
+    List<String> findExistingDedupeKeys(@Param("userId") Long userId, @Param("dedupeKeys") Collection<String> dedupeKeys);
+
+    @Query("SELECT wl.routeCoordinatesJson FROM WalkLog wl WHERE wl.id = :id")
+    Optional<String> findRouteCoordinatesJsonById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE WalkLog wl SET wl.heatmapAggregated = true WHERE wl.id = :id AND wl.isPublicRoute = true AND wl.heatmapAggregated = false")
+    int markHeatmapAggregated(@Param("id") Long id);
+
+    @Query("SELECT wl.id, wl.user.id FROM WalkLog wl WHERE wl.isPublicRoute = true AND wl.heatmapAggregated = false AND wl.id > :afterId ORDER BY wl.id ASC")
+    List<Object[]> findPublicRoutesPendingHeatmap(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT wl.id, wl.routeFingerprint FROM WalkLog wl WHERE wl.isPublicRoute = true AND wl.routeFingerprint IS NOT NULL AND wl.id > :afterId ORDER BY wl.id ASC")
+    List<Object[]> findPublicRouteFingerprints(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT wl.id FROM WalkLog wl WHERE wl.isPublicRoute = true AND wl.routeFingerprint IS NULL AND wl.id > :afterId ORDER BY wl.id ASC")
+    List<Long> findPublicRouteIdsWithoutFingerprint(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE WalkLog wl SET wl.routeFingerprint = :fingerprint WHERE wl.id = :id")
+    int updateRouteFingerprint(@Param("id") Long id, @Param("fingerprint") byte[] fingerprint);
+
+    @Query("SELECT wl.id FROM WalkLog wl WHERE wl.user.id = :userId AND wl.id > :afterId " +
+            "AND wl.caloriesUserProvided = false ORDER BY wl.id ASC")
+    List<Long> findRecomputableIdsAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(wl) FROM WalkLog wl WHERE wl.user.id = :userId AND wl.caloriesUserProvided = false")
+    long countRecomputable(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE walk_logs SET calories_burned = :caloriesPerSecond * " +
+            "(CASE WHEN moving_time_seconds > 0 THEN moving_time_seconds ELSE COALESCE(duration_seconds, 0) END) " +
+            "WHERE user_id = :userId AND id > :afterId AND id <= :upToId AND calories_user_provided = FALSE", nativeQuery = true)
+    int recomputeCalories(@Param("userId") Long userId, @Param("afterId") Long afterId, @Param("upToId") Long upToId,
+                          @Param("caloriesPerSecond") double caloriesPerSecond);
+
+    @Query("SELECT wl.id FROM WalkLog wl WHERE wl.startTime < :cutoff AND wl.id > :afterId " +
+            "AND wl.routeArchived = false AND wl.isPublicRoute = false AND wl.routeCoordinatesJson IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM SharedRoute s WHERE s.walkLog = wl) ORDER BY wl.id ASC")
+    List<Long> findArchivableRouteIds(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(value = "SELECT wl.id, wl.route_coordinates_json FROM walk_logs wl WHERE wl.id IN (:ids) " +
+            "AND wl.route_archived = FALSE AND wl.is_public_route = FALSE AND wl.route_coordinates_json IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM shared_routes s WHERE s.walk_log_id = wl.id) FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockArchivableRoutesByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE WalkLog wl SET wl.routeCoordinatesJson = NULL, wl.routeArchived = true WHERE wl.id IN :ids " +
+            "AND wl.routeArchived = false AND wl.isPublicRoute = false " +
+            "AND NOT EXISTS (SELECT 1 FROM SharedRoute s WHERE s.walkLog.id = wl.id)")
+    int markRoutesArchived(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT wl FROM WalkLog wl WHERE wl.id = :id")
+    Optional<WalkLog> findByIdForUpdate(@Param("id") Long id);
+}
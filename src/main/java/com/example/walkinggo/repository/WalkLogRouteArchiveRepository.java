@@ -0,0 +1,14 @@
+package com.example.walkinggo.repository;
+
+import com.example.walkinggo.entity.WalkLogRouteArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface WalkLogRouteArchiveRepository extends JpaRepository<WalkLogRouteArchive, Long> {
+
+    @Query("SELECT a.routeGzip FROM WalkLogRouteArchive a WHERE a.walkLogId = :walkLogId")
+    Optional<byte[]> findRouteGzipByWalkLogId(@Param("walkLogId") Long walkLogId);
+}
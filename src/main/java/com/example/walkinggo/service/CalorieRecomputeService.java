@@ -0,0 +1,145 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.CalorieRecomputeJobResponse;
+import com.example.walkinggo.entity.CalorieRecomputeJob;
+import com.example.walkinggo.entity.CalorieRecomputeJobStatus;
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.event.WalkLogsChangedEvent;
+import com.example.walkinggo.repository.CalorieRecomputeJobRepository;
+import com.example.walkinggo.repository.UserRepository;
+import com.example.walkinggo.repository.WalkLogRepository;
+import com.example.walkinggo.util.CalorieCalculator;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class CalorieRecomputeService {
+
+    private static final Set<CalorieRecomputeJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(CalorieRecomputeJobStatus.PENDING, CalorieRecomputeJobStatus.RUNNING);
+
+    private final CalorieRecomputeJobRepository jobRepository;
+    private final WalkLogRepository walkLogRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int chunkSize;
+    private final int chunksPerRun;
+    private final long chunkPauseMillis;
+    private final Logger logger = LoggerFactory.getLogger(CalorieRecomputeService.class);
+
+    public CalorieRecomputeService(CalorieRecomputeJobRepository jobRepository,
+                                   WalkLogRepository walkLogRepository,
+                                   UserRepository userRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher applicationEventPublisher,
+                                   @Value("${walkinggo.calorie-recompute.chunk-size:500}") int chunkSize,
+                                   @Value("${walkinggo.calorie-recompute.chunks-per-run:20}") int chunksPerRun,
+                                   @Value("${walkinggo.calorie-recompute.chunk-pause-ms:200}") long chunkPauseMillis) {
+        this.jobRepository = jobRepository;
+        this.walkLogRepository = walkLogRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.chunkSize = chunkSize;
+        this.chunksPerRun = chunksPerRun;
+        this.chunkPauseMillis = chunkPauseMillis;
+    }
+
+    @Transactional
+    public CalorieRecomputeJobResponse requestRecompute(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        CalorieRecomputeJob job = jobRepository.findFirstByUserIdAndStatusInOrderByIdDesc(user.getId(), ACTIVE_STATUSES)
+                .orElseGet(() -> CalorieRecomputeJob.builder().userId(user.getId()).build());
+        job.setWeightKg(user.getWeightKg());
+        job.setGeneration(job.getGeneration() + 1);
+        job.setStatus(CalorieRecomputeJobStatus.PENDING);
+        job.setLastWalkLogId(0L);
+        job.setProcessedWalks(0L);
+        job.setTotalWalks(walkLogRepository.countRecomputable(user.getId()));
+        job.setLastError(null);
+        CalorieRecomputeJob saved = jobRepository.save(job);
+        logger.info("칼로리 재계산 작업 등록: 사용자='{}', 작업 ID={}, 대상 {}건", username, saved.getId(), saved.getTotalWalks());
+        return new CalorieRecomputeJobResponse(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public CalorieRecomputeJobResponse getLatestJob(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        return jobRepository.findFirstByUserIdOrderByIdDesc(user.getId())
+                .map(CalorieRecomputeJobResponse::new)
+                .orElseThrow(() -> new EntityNotFoundException("칼로리 재계산 작업이 없습니다."));
+    }
+
+    @Scheduled(fixedDelayString = "${walkinggo.calorie-recompute.poll-interval-ms:5000}")
+    public void runPendingJobs() {
+        CalorieRecomputeJob job = jobRepository.findFirstByStatusInOrderByIdAsc(ACTIVE_STATUSES).orElse(null);
+        if (job == null) {
+            return;
+        }
+        double caloriesPerSecond = CalorieCalculator.caloriesPerSecond(job.getWeightKg());
+        long generation = job.getGeneration();
+        long afterId = job.getLastWalkLogId();
+        try {
+            for (int chunk = 0; chunk < chunksPerRun; chunk++) {
+                long cursor = afterId;
+                Long nextCursor = transactionTemplate.execute(status -> recomputeChunk(job.getId(), generation, job.getUserId(), cursor, caloriesPerSecond));
+                if (nextCursor == null) {
+                    return;
+                }
+                if (nextCursor == cursor) {
+                    finish(job.getId(), generation, CalorieRecomputeJobStatus.COMPLETED, null);
+                    logger.info("칼로리 재계산 완료: 작업 ID={}, 사용자 ID={}", job.getId(), job.getUserId());
+                    return;
+                }
+                afterId = nextCursor;
+                Thread.sleep(chunkPauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error("칼로리 재계산 실패: 작업 ID={}", job.getId(), e);
+            finish(job.getId(), generation, CalorieRecomputeJobStatus.FAILED, "칼로리 재계산 중 오류가 발생했습니다.");
+        }
+    }
+
+    private Long recomputeChunk(Long jobId, long generation, Long userId, long afterId, double caloriesPerSecond) {
+        List<Long> walkLogIds = walkLogRepository.findRecomputableIdsAfter(userId, afterId, PageRequest.of(0, chunkSize));
+        if (walkLogIds.isEmpty()) {
+            return afterId;
+        }
+        long upToId = walkLogIds.get(walkLogIds.size() - 1);
+        if (jobRepository.advance(jobId, generation, afterId, upToId, walkLogIds.size()) == 0) {
+            return null;
+        }
+        walkLogRepository.recomputeCalories(userId, afterId, upToId, caloriesPerSecond);
+        applicationEventPublisher.publishEvent(new WalkLogsChangedEvent(walkLogIds));
+        return upToId;
+    }
+
+    private void finish(Long jobId, long generation, CalorieRecomputeJobStatus status, String message) {
+        transactionTemplate.executeWithoutResult(tx -> jobRepository.findById(jobId).ifPresent(job -> {
+            if (job.isFinished() || job.getGeneration() != generation) {
+                return;
+            }
+            job.setStatus(status);
+            job.setLastError(message);
+            job.setFinishedAt(LocalDateTime.now());
+        }));
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.GroupActivity;
+import com.example.walkinggo.repository.GroupActivityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class GroupActivityFeed {
+
+    private static final int LOCK_STRIPES = 64;
+
+    public record Page(List<GroupActivity> activities, Long nextBeforeId) {
+    }
+
+    private final GroupActivityRepository groupActivityRepository;
+    private final TransactionTemplate loadTransaction;
+    private final int ringCapacity;
+    private final Map<Long, Ring> rings;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public GroupActivityFeed(GroupActivityRepository groupActivityRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${walkinggo.group-activity.ring-capacity:64}") int ringCapacity,
+                             @Value("${walkinggo.group-activity.cached-groups:1000}") int cachedGroups) {
+        this.groupActivityRepository = groupActivityRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ringCapacity = ringCapacity;
+        this.rings = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Ring> eldest) {
+                return size() > cachedGroups;
+            }
+        });
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public int getRingCapacity() {
+        return ringCapacity;
+    }
+
+    public Page latest(Long groupId, int size) {
+        if (size > ringCapacity) {
+            return before(groupId, Long.MAX_VALUE, size);
+        }
+        synchronized (lockFor(groupId)) {
+            Ring ring = rings.get(groupId);
+            if (ring == null) {
+                List<GroupActivity> loaded = loadTransaction.execute(status ->
+                        groupActivityRepository.findByGroupIdOrderByIdDesc(groupId, PageRequest.of(0, ringCapacity)));
+                ring = new Ring(ringCapacity, loaded);
+                rings.put(groupId, ring);
+            }
+            List<GroupActivity> newest = ring.newest(size + 1);
+            boolean hasMore = newest.size() > size || !ring.isComplete();
+            List<GroupActivity> page = newest.size() > size ? newest.subList(0, size) : newest;
+            Long nextBeforeId = hasMore && !page.isEmpty() ? page.get(page.size() - 1).getId() : null;
+            return new Page(page, nextBeforeId);
+        }
+    }
+
+    public Page before(Long groupId, long beforeId, int size) {
+        List<GroupActivity> activities = groupActivityRepository.findByGroupIdAndIdLessThanOrderByIdDesc(
+                groupId, beforeId, PageRequest.of(0, size + 1));
+        Long nextBeforeId = null;
+        if (activities.size() > size) {
+            activities = activities.subList(0, size);
+            nextBeforeId = activities.get(size - 1).getId();
+        }
+        return new Page(activities, nextBeforeId);
+    }
+
+    public void appendAfterCommit(GroupActivity activity) {
+        afterCommit(() -> {
+            synchronized (lockFor(activity.getGroupId())) {
+                Ring ring = rings.get(activity.getGroupId());
+                if (ring != null) {
+                    ring.add(activity);
+                }
+            }
+        });
+    }
+
+    public void evictAfterCommit(Long groupId) {
+        afterCommit(() -> {
+            synchronized (lockFor(groupId)) {
+                rings.remove(groupId);
+            }
+        });
+    }
+
+    private Object lockFor(Long groupId) {
+        return locks[(int) (groupId % LOCK_STRIPES)];
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Ring {
+
+        private final GroupActivity[] slots;
+        private int head;
+        private int count;
+        private boolean complete;
+
+        private Ring(int capacity, List<GroupActivity> newestFirst) {
+            this.slots = new GroupActivity[capacity];
+            this.complete = newestFirst.size() < capacity;
+            for (int i = newestFirst.size() - 1; i >= 0; i--) {
+                add(newestFirst.get(i));
+            }
+        }
+
+        private void add(GroupActivity activity) {
+            if (count > 0 && activity.getId() <= slots[(head - 1 + slots.length) % slots.length].getId()) {
+                return;
+            }
+            slots[head] = activity;
+            head = (head + 1) % slots.length;
+            if (count < slots.length) {
+                count++;
+            } else {
+                complete = false;
+            }
+        }
+
+        private List<GroupActivity> newest(int limit) {
+            int n = Math.min(limit, count);
+            List<GroupActivity> result = new ArrayList<>(n);
+            for (int i = 1; i <= n; i++) {
+                result.add(slots[(head - i + slots.length) % slots.length]);
+            }
+            return result;
+        }
+
+        private boolean isComplete() {
+            return complete;
+        }
+    }
+}
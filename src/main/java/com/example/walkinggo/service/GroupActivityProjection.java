@@ -0,0 +1,63 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.GroupActivity;
+import com.example.walkinggo.entity.OutboxEvent;
+import com.example.walkinggo.event.OutboxEventHandler;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.event.WalkLogCreatedEvent;
+import com.example.walkinggo.event.WalkLogsImportedEvent;
+import com.example.walkinggo.repository.GroupActivityRepository;
+import com.example.walkinggo.repository.UserGroupRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class GroupActivityProjection implements OutboxEventHandler {
+
+    private final UserGroupRepository userGroupRepository;
+    private final GroupActivityRepository groupActivityRepository;
+    private final GroupActivityFeed groupActivityFeed;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final Logger logger = LoggerFactory.getLogger(GroupActivityProjection.class);
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return EnumSet.of(OutboxEventType.WALK_LOG_CREATED, OutboxEventType.WALK_LOGS_IMPORTED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        List<Long> groupIds = userGroupRepository.findGroupIdsByMemberId(event.getUserId());
+        if (groupIds.isEmpty()) {
+            return;
+        }
+        GroupActivity.GroupActivityBuilder activity = GroupActivity.builder().userId(event.getUserId());
+        if (event.getEventType() == OutboxEventType.WALK_LOG_CREATED) {
+            WalkLogCreatedEvent payload = outboxEventPublisher.readPayload(event, WalkLogCreatedEvent.class);
+            activity.walkLogId(payload.walkLogId())
+                    .walkCount(1)
+                    .distanceMeters(payload.distanceMeters() != null ? payload.distanceMeters() : 0.0)
+                    .walkedAt(payload.startTime() != null ? payload.startTime() : event.getCreatedAt());
+        } else {
+            WalkLogsImportedEvent payload = outboxEventPublisher.readPayload(event, WalkLogsImportedEvent.class);
+            if (payload.importedCount() == 0) {
+                return;
+            }
+            activity.walkCount(payload.importedCount())
+                    .distanceMeters(payload.totalDistanceMeters() != null ? payload.totalDistanceMeters() : 0.0)
+                    .walkedAt(event.getCreatedAt());
+        }
+        for (Long groupId : groupIds) {
+            GroupActivity saved = groupActivityRepository.save(activity.groupId(groupId).build());
+            groupActivityFeed.appendAfterCommit(saved);
+        }
+        logger.debug("그룹 활동 기록 완료: 사용자 ID={}, 그룹 {}개", event.getUserId(), groupIds.size());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.GroupActivityPageResponse;
+import com.example.walkinggo.dto.GroupActivityResponse;
+import com.example.walkinggo.entity.GroupActivity;
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.repository.UserGroupRepository;
+import com.example.walkinggo.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class GroupActivityService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final GroupActivityFeed groupActivityFeed;
+    private final UserGroupRepository userGroupRepository;
+    private final UserRepository userRepository;
+
+    public GroupActivityPageResponse getActivities(Long groupId, String username, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        Boolean isPublic = userGroupRepository.findIsPublicById(groupId)
+                .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId));
+        if (!isPublic) {
+            Long userId = userRepository.findByUsername(username)
+                    .map(User::getId)
+                    .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
+            if (userGroupRepository.countMembership(groupId, userId) == 0) {
+                throw new AccessDeniedException("비공개 그룹의 활동은 멤버만 조회할 수 있습니다.");
+            }
+        }
+
+        GroupActivityFeed.Page page = cursor == null || cursor.isBlank()
+                ? groupActivityFeed.latest(groupId, size)
+                : groupActivityFeed.before(groupId, parseCursor(cursor), size);
+
+        Map<Long, String> usernames = resolveUsernames(page.activities());
+        List<GroupActivityResponse> activities = page.activities().stream()
+                .map(activity -> new GroupActivityResponse(activity, usernames.get(activity.getUserId())))
+                .collect(Collectors.toList());
+        String nextCursor = page.nextBeforeId() != null ? Long.toString(page.nextBeforeId()) : null;
+        return new GroupActivityPageResponse(activities, nextCursor);
+    }
+
+    private Map<Long, String> resolveUsernames(List<GroupActivity> activities) {
+        Set<Long> userIds = activities.stream().map(GroupActivity::getUserId).collect(Collectors.toSet());
+        Map<Long, String> usernames = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (Object[] row : userRepository.findUsernamesByIds(userIds)) {
+                usernames.put((Long) row[0], (String) row[1]);
+            }
+        }
+        return usernames;
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            long beforeId = Long.parseLong(cursor);
+            if (beforeId <= 0) {
+                throw new NumberFormatException();
+            }
+            return beforeId;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.OutboxEvent;
+import com.example.walkinggo.event.OutboxEventHandler;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.event.WalkLogCreatedEvent;
+import com.example.walkinggo.repository.GroupChallengeRepository;
+import com.example.walkinggo.repository.UserGroupRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class GroupChallengeProjection implements OutboxEventHandler {
+
+    private final GroupChallengeRepository groupChallengeRepository;
+    private final UserGroupRepository userGroupRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final Logger logger = LoggerFactory.getLogger(GroupChallengeProjection.class);
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return EnumSet.of(OutboxEventType.WALK_LOG_CREATED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        WalkLogCreatedEvent payload = outboxEventPublisher.readPayload(event, WalkLogCreatedEvent.class);
+        if (payload.distanceMeters() == null || payload.distanceMeters() <= 0) {
+            return;
+        }
+        LocalDateTime walkedAt = payload.startTime() != null ? payload.startTime() : event.getCreatedAt();
+        LocalDateTime now = LocalDateTime.now();
+        for (Long groupId : userGroupRepository.findGroupIdsByMemberId(event.getUserId())) {
+            int updated = groupChallengeRepository.addProgress(groupId, payload.distanceMeters(), walkedAt, now);
+            if (updated > 0) {
+                logger.debug("그룹 챌린지 진행도 반영: 그룹 ID={}, 챌린지 {}개", groupId, updated);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.GroupChallengeRequest;
+import com.example.walkinggo.dto.GroupChallengeResponse;
+import com.example.walkinggo.entity.GroupChallenge;
+import com.example.walkinggo.entity.GroupChallengeStatus;
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.entity.UserGroup;
+import com.example.walkinggo.repository.GroupChallengeRepository;
+import com.example.walkinggo.repository.UserGroupRepository;
+import com.example.walkinggo.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class GroupChallengeService {
+
+    private final GroupChallengeRepository groupChallengeRepository;
+    private final UserGroupRepository userGroupRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxActivePerGroup;
+    private final int expiryBatchSize;
+    private final Logger logger = LoggerFactory.getLogger(GroupChallengeService.class);
+
+    public GroupChallengeService(GroupChallengeRepository groupChallengeRepository,
+                                 UserGroupRepository userGroupRepository,
+                                 UserRepository userRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${walkinggo.challenge.max-active-per-group:10}") int maxActivePerGroup,
+                                 @Value("${walkinggo.challenge.expiry-batch-size:500}") int expiryBatchSize) {
+        this.groupChallengeRepository = groupChallengeRepository;
+        this.userGroupRepository = userGroupRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxActivePerGroup = maxActivePerGroup;
+        this.expiryBatchSize = expiryBatchSize;
+    }
+
+    @Transactional
+    public GroupChallengeResponse createChallenge(Long groupId, String username, GroupChallengeRequest request) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        UserGroup group = userGroupRepository.findById(groupId)
+                .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId));
+        if (!group.getOwner().getId().equals(user.getId())) {
+            throw new AccessDeniedException("그룹 소유자만 챌린지를 만들 수 있습니다.");
+        }
+        if (!request.getEndsAt().isAfter(request.getStartsAt())) {
+            throw new IllegalArgumentException("종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (!request.getEndsAt().isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("이미 종료된 기간으로는 챌린지를 만들 수 없습니다.");
+        }
+        if (groupChallengeRepository.countByGroupIdAndStatus(groupId, GroupChallengeStatus.ACTIVE) >= maxActivePerGroup) {
+            throw new IllegalStateException("진행 중인 챌린지는 그룹당 최대 " + maxActivePerGroup + "개까지 만들 수 있습니다.");
+        }
+        GroupChallenge challenge = groupChallengeRepository.save(GroupChallenge.builder()
+                .groupId(groupId)
+                .title(request.getTitle())
+                .targetDistanceMeters(request.getTargetDistanceKm() * 1000.0)
+                .startsAt(request.getStartsAt())
+                .endsAt(request.getEndsAt())
+                .build());
+        logger.info("그룹 챌린지 생성: 그룹 ID={}, 챌린지 ID={}", groupId, challenge.getId());
+        return new GroupChallengeResponse(challenge);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GroupChallengeResponse> getChallenges(Long groupId, String username) {
+        Boolean isPublic = userGroupRepository.findIsPublicById(groupId)
+                .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId));
+        if (!isPublic) {
+            Long userId = userRepository.findByUsername(username)
+                    .map(User::getId)
+                    .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
+            if (userGroupRepository.countMembership(groupId, userId) == 0) {
+                throw new AccessDeniedException("비공개 그룹의 챌린지는 멤버만 조회할 수 있습니다.");
+            }
+        }
+        return groupChallengeRepository.findByGroupIdOrderByIdDesc(groupId).stream()
+                .map(GroupChallengeResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedDelayString = "${walkinggo.challenge.expiry-interval-ms:60000}")
+    public void expireEndedChallenges() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        while (true) {
+            Integer expired = transactionTemplate.execute(status -> groupChallengeRepository.expireEndedBefore(now, expiryBatchSize));
+            if (expired == null || expired == 0) {
+                break;
+            }
+            total += expired;
+            if (expired < expiryBatchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("기간이 끝난 그룹 챌린지 {}개 종료 처리", total);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.repository.UserGroupRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class GroupCodeCache {
+
+    private final UserGroupRepository userGroupRepository;
+    private final Map<String, Long> groupIdsByCode = new ConcurrentHashMap<>();
+    private final Logger logger = LoggerFactory.getLogger(GroupCodeCache.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> codes = userGroupRepository.findParticipationCodes();
+        for (Object[] row : codes) {
+            groupIdsByCode.put((String) row[0], (Long) row[1]);
+        }
+        logger.info("참여 코드 캐시 적재 완료: {}개", codes.size());
+    }
+
+    public Optional<Long> findGroupId(String code) {
+        Long cached = groupIdsByCode.get(code);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Long> groupId = userGroupRepository.findIdByParticipationCode(code);
+        groupId.ifPresent(id -> groupIdsByCode.put(code, id));
+        return groupId;
+    }
+
+    public boolean isKnown(String code) {
+        return groupIdsByCode.containsKey(code);
+    }
+
+    public void putAfterCommit(String code, Long groupId) {
+        afterCommit(() -> groupIdsByCode.put(code, groupId));
+    }
+
+    public void removeAfterCommit(String code) {
+        afterCommit(() -> groupIdsByCode.remove(code));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
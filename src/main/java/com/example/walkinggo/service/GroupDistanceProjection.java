@@ -0,0 +1,65 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.OutboxEvent;
+import com.example.walkinggo.event.OutboxEventHandler;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.event.WalkLogCreatedEvent;
+import com.example.walkinggo.event.WalkLogsImportedEvent;
+import com.example.walkinggo.repository.UserGroupRepository;
+import com.example.walkinggo.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class GroupDistanceProjection implements OutboxEventHandler {
+
+    private final UserGroupRepository userGroupRepository;
+    private final UserRepository userRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final ResourceVersionRegistry resourceVersionRegistry;
+    private final Logger logger = LoggerFactory.getLogger(GroupDistanceProjection.class);
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return EnumSet.of(OutboxEventType.WALK_LOG_CREATED, OutboxEventType.WALK_LOGS_IMPORTED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Double distance = switch (event.getEventType()) {
+            case WALK_LOG_CREATED -> outboxEventPublisher.readPayload(event, WalkLogCreatedEvent.class).distanceMeters();
+            case WALK_LOGS_IMPORTED -> outboxEventPublisher.readPayload(event, WalkLogsImportedEvent.class).totalDistanceMeters();
+            default -> null;
+        };
+        if (distance == null || distance <= 0) {
+            return;
+        }
+        userRepository.addTotalDistance(event.getUserId(), distance);
+        int updatedGroups = userGroupRepository.addDistanceToGroupsOfUser(event.getUserId(), distance);
+        if (updatedGroups > 0) {
+            resourceVersionRegistry.bump(ResourceVersionRegistry.GROUP_RANKING);
+            resourceVersionRegistry.bump(userGroupRepository.findGroupIdsByMemberId(event.getUserId()).stream()
+                    .map(ResourceVersionRegistry::group)
+                    .toArray(String[]::new));
+        }
+        logger.info("사용자 ID {}가 속한 {}개 그룹의 총 이동 거리 업데이트 완료.", event.getUserId(), updatedGroups);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillUserDistances() {
+        int updated = userRepository.backfillTotalDistances();
+        if (updated > 0) {
+            logger.info("사용자 누적 이동 거리 컬럼 초기화 완료: {}명", updated);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.repository.UserGroupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class GroupSearchIndex {
+
+    public record SearchResult(List<Long> groupIds, int totalCount) {
+    }
+
+    private record IndexedGroup(Long id, String normalizedName) {
+    }
+
+    private record RankedGroup(IndexedGroup group, int tier) {
+    }
+
+    private static final Comparator<RankedGroup> RANKING = Comparator
+            .comparingInt(RankedGroup::tier)
+            .thenComparingInt(ranked -> ranked.group().normalizedName().length())
+            .thenComparing(ranked -> ranked.group().normalizedName())
+            .thenComparing(ranked -> ranked.group().id());
+
+    private final UserGroupRepository userGroupRepository;
+    private final Map<Long, IndexedGroup> groupsById = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Logger logger = LoggerFactory.getLogger(GroupSearchIndex.class);
+
+    public GroupSearchIndex(UserGroupRepository userGroupRepository) {
+        this.userGroupRepository = userGroupRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> publicGroups = userGroupRepository.findPublicGroupNames();
+        for (Object[] row : publicGroups) {
+            index((Long) row[0], (String) row[1]);
+        }
+        logger.info("그룹 검색 색인 적재 완료: 공개 그룹 {}개", publicGroups.size());
+    }
+
+    public void addAfterCommit(Long groupId, String name) {
+        afterCommit(() -> index(groupId, name));
+    }
+
+    public void removeAfterCommit(Long groupId) {
+        afterCommit(() -> remove(groupId));
+    }
+
+    public SearchResult search(String query, int page, int size) {
+        String normalizedQuery = normalize(query);
+        Set<String> queryGrams = queryGrams(normalizedQuery);
+        if (queryGrams.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+        List<RankedGroup> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String gram : sortedByPostingSize(queryGrams)) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return new SearchResult(List.of(), 0);
+                }
+                if (candidates == null) {
+                    candidates = new HashSet<>(posting);
+                } else {
+                    candidates.retainAll(posting);
+                }
+                if (candidates.isEmpty()) {
+                    return new SearchResult(List.of(), 0);
+                }
+            }
+            for (Long groupId : candidates) {
+                IndexedGroup group = groupsById.get(groupId);
+                matches.add(new RankedGroup(group, tierOf(group.normalizedName(), normalizedQuery)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(RANKING);
+        int from = Math.min(matches.size(), page * size);
+        int to = Math.min(matches.size(), from + size);
+        List<Long> groupIds = matches.subList(from, to).stream()
+                .map(ranked -> ranked.group().id())
+                .toList();
+        return new SearchResult(groupIds, matches.size());
+    }
+
+    private void index(Long groupId, String name) {
+        String normalizedName = normalize(name);
+        lock.writeLock().lock();
+        try {
+            removeLocked(groupId);
+            groupsById.put(groupId, new IndexedGroup(groupId, normalizedName));
+            for (String gram : nameGrams(normalizedName)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(groupId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long groupId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(groupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long groupId) {
+        IndexedGroup existing = groupsById.remove(groupId);
+        if (existing == null) {
+            return;
+        }
+        for (String gram : nameGrams(existing.normalizedName())) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null && posting.remove(groupId) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private List<String> sortedByPostingSize(Set<String> grams) {
+        List<String> sorted = new ArrayList<>(grams);
+        sorted.sort(Comparator.comparingInt(gram -> {
+            Set<Long> posting = postings.get(gram);
+            return posting != null ? posting.size() : 0;
+        }));
+        return sorted;
+    }
+
+    private static int tierOf(String normalizedName, String normalizedQuery) {
+        if (normalizedName.equals(normalizedQuery)) {
+            return 0;
+        }
+        if (normalizedName.startsWith(normalizedQuery)) {
+            return 1;
+        }
+        if (normalizedName.contains(normalizedQuery)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private static Set<String> nameGrams(String normalizedName) {
+        Set<String> grams = new HashSet<>();
+        for (String token : normalizedName.split(" ")) {
+            int[] codePoints = token.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                grams.add(new String(codePoints, i, 1));
+                if (i + 1 < codePoints.length) {
+                    grams.add(new String(codePoints, i, 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> queryGrams(String normalizedQuery) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalizedQuery.isEmpty()) {
+            return grams;
+        }
+        for (String token : normalizedQuery.split(" ")) {
+            int[] codePoints = token.codePoints().toArray();
+            if (codePoints.length == 1) {
+                grams.add(token);
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
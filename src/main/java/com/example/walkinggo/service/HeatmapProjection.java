@@ -0,0 +1,98 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.OutboxEvent;
+import com.example.walkinggo.entity.OutboxEventStatus;
+import com.example.walkinggo.event.OutboxEventHandler;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.event.RoutePublishedEvent;
+import com.example.walkinggo.repository.OutboxEventRepository;
+import com.example.walkinggo.repository.WalkLogRepository;
+import com.example.walkinggo.util.geo.HeatmapRasterizer;
+import com.example.walkinggo.util.geo.TrackPoints;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class HeatmapProjection implements OutboxEventHandler {
+
+    private static final int BACKFILL_PAGE_SIZE = 500;
+
+    private final WalkLogRepository walkLogRepository;
+    private final HeatmapService heatmapService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Logger logger = LoggerFactory.getLogger(HeatmapProjection.class);
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return EnumSet.of(OutboxEventType.ROUTE_PUBLISHED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        RoutePublishedEvent payload = outboxEventPublisher.readPayload(event, RoutePublishedEvent.class);
+        if (walkLogRepository.markHeatmapAggregated(payload.walkLogId()) == 0) {
+            return;
+        }
+        String routeCoordinatesJson = walkLogRepository.findRouteCoordinatesJsonById(payload.walkLogId()).orElse(null);
+        if (routeCoordinatesJson == null || routeCoordinatesJson.isBlank()) {
+            return;
+        }
+        TrackPoints points;
+        try {
+            points = TrackPoints.parse(routeCoordinatesJson);
+        } catch (IllegalArgumentException e) {
+            logger.warn("경로 좌표를 해석할 수 없어 히트맵에 반영하지 않습니다: 기록 ID={}", payload.walkLogId());
+            return;
+        }
+        long[] cells = HeatmapRasterizer.rasterize(points);
+        heatmapService.incrementCells(cells);
+        logger.debug("히트맵 반영 완료: 기록 ID={}, 셀 {}개", payload.walkLogId(), cells.length);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void enqueuePendingRoutes() {
+        Set<Long> queuedIds = outboxEventRepository.findByStatusAndEventType(OutboxEventStatus.PENDING, OutboxEventType.ROUTE_PUBLISHED)
+                .stream()
+                .map(event -> outboxEventPublisher.readPayload(event, RoutePublishedEvent.class).walkLogId())
+                .collect(Collectors.toSet());
+        long afterId = 0L;
+        int enqueued = 0;
+        while (true) {
+            List<Object[]> pending = walkLogRepository.findPublicRoutesPendingHeatmap(afterId, PageRequest.of(0, BACKFILL_PAGE_SIZE));
+            if (pending.isEmpty()) {
+                break;
+            }
+            List<Object[]> unqueued = pending.stream()
+                    .filter(route -> !queuedIds.contains((Long) route[0]))
+                    .toList();
+            if (!unqueued.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Object[] route : unqueued) {
+                        Long walkLogId = (Long) route[0];
+                        Long userId = (Long) route[1];
+                        outboxEventPublisher.publish(userId, OutboxEventType.ROUTE_PUBLISHED, new RoutePublishedEvent(walkLogId, userId));
+                    }
+                });
+            }
+            enqueued += unqueued.size();
+            afterId = (Long) pending.get(pending.size() - 1)[0];
+        }
+        if (enqueued > 0) {
+            logger.info("히트맵 미반영 공개 경로 {}건을 집계 대기열에 추가했습니다.", enqueued);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.HeatmapTileResponse;
+import com.example.walkinggo.entity.HeatmapCell;
+import com.example.walkinggo.repository.HeatmapCellRepository;
+import com.example.walkinggo.util.geo.HeatmapRasterizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class HeatmapService {
+
+    private static final String INCREMENT_CELL_SQL = "INSERT INTO heatmap_cells (zoom, tile_x, tile_y, cell_x, cell_y, walk_count) " +
+            "VALUES (?, ?, ?, ?, ?, 1) ON DUPLICATE KEY UPDATE walk_count = walk_count + 1";
+    private static final int BATCH_SIZE = 500;
+
+    private final HeatmapCellRepository heatmapCellRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void incrementCells(long[] cellKeys) {
+        for (int from = 0; from < cellKeys.length; from += BATCH_SIZE) {
+            int to = Math.min(cellKeys.length, from + BATCH_SIZE);
+            List<Object[]> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                long key = cellKeys[i];
+                int cellX = HeatmapRasterizer.cellXOf(key);
+                int cellY = HeatmapRasterizer.cellYOf(key);
+                batch.add(new Object[]{
+                        HeatmapRasterizer.zoomOf(key),
+                        cellX >>> HeatmapRasterizer.CELL_SHIFT,
+                        cellY >>> HeatmapRasterizer.CELL_SHIFT,
+                        cellX & (HeatmapRasterizer.CELLS_PER_TILE - 1),
+                        cellY & (HeatmapRasterizer.CELLS_PER_TILE - 1)
+                });
+            }
+            jdbcTemplate.batchUpdate(INCREMENT_CELL_SQL, batch);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public HeatmapTileResponse getTile(int z, int x, int y) {
+        if (z < HeatmapRasterizer.MIN_ZOOM || z > HeatmapRasterizer.MAX_ZOOM) {
+            throw new IllegalArgumentException("지원하는 줌 레벨은 " + HeatmapRasterizer.MIN_ZOOM + "~" + HeatmapRasterizer.MAX_ZOOM + " 입니다.");
+        }
+        int tileCount = 1 << z;
+        if (x < 0 || y < 0 || x >= tileCount || y >= tileCount) {
+            throw new IllegalArgumentException("타일 좌표가 범위를 벗어났습니다.");
+        }
+        List<HeatmapCell> cells = heatmapCellRepository.findByZoomAndTileXAndTileY(z, x, y);
+        long[] packed = new long[cells.size() * 3];
+        long maxCount = 0;
+        int index = 0;
+        for (HeatmapCell cell : cells) {
+            packed[index++] = cell.getCellX();
+            packed[index++] = cell.getCellY();
+            packed[index++] = cell.getWalkCount();
+            maxCount = Math.max(maxCount, cell.getWalkCount());
+        }
+        return new HeatmapTileResponse(z, x, y, HeatmapRasterizer.CELLS_PER_TILE, maxCount, packed);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.walkinggo.service;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "walkinggo.datasource.pool.auto-tune.enabled", havingValue = "true")
+public class HikariPoolAutoTuner {
+
+    private final List<HikariDataSource> dataSources;
+    private final MeterRegistry meterRegistry;
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final double waitThresholdMillis;
+    private final double waitToUsageRatio;
+    private final int shrinkAfterIdlePeriods;
+    private final Map<String, PoolSample> samples = new ConcurrentHashMap<>();
+    private final Logger logger = LoggerFactory.getLogger(HikariPoolAutoTuner.class);
+
+    public HikariPoolAutoTuner(List<HikariDataSource> dataSources,
+                               MeterRegistry meterRegistry,
+                               @Value("${walkinggo.datasource.pool.auto-tune.min-size:5}") int minPoolSize,
+                               @Value("${walkinggo.datasource.pool.auto-tune.max-size:40}") int maxPoolSize,
+                               @Value("${walkinggo.datasource.pool.auto-tune.wait-threshold-ms:5}") double waitThresholdMillis,
+                               @Value("${walkinggo.datasource.pool.auto-tune.wait-to-usage-ratio:0.5}") double waitToUsageRatio,
+                               @Value("${walkinggo.datasource.pool.auto-tune.shrink-after-idle-periods:6}") int shrinkAfterIdlePeriods) {
+        this.dataSources = dataSources;
+        this.meterRegistry = meterRegistry;
+        this.minPoolSize = minPoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.waitThresholdMillis = waitThresholdMillis;
+        this.waitToUsageRatio = waitToUsageRatio;
+        this.shrinkAfterIdlePeriods = shrinkAfterIdlePeriods;
+    }
+
+    @Scheduled(fixedDelayString = "${walkinggo.datasource.pool.auto-tune.interval-ms:10000}")
+    public void tune() {
+        for (HikariDataSource dataSource : dataSources) {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                tune(dataSource.getPoolName(), dataSource.getHikariConfigMXBean(), pool);
+            }
+        }
+    }
+
+    private void tune(String poolName, HikariConfigMXBean config, HikariPoolMXBean pool) {
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", poolName).timer();
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", poolName).timer();
+        if (acquire == null || usage == null) {
+            return;
+        }
+
+        PoolSample current = new PoolSample(acquire.count(), acquire.totalTime(TimeUnit.MILLISECONDS),
+                usage.count(), usage.totalTime(TimeUnit.MILLISECONDS), 0);
+        PoolSample previous = samples.get(poolName);
+        if (previous == null) {
+            samples.put(poolName, current);
+            return;
+        }
+
+        double meanWaitMillis = mean(current.acquireTotalMillis - previous.acquireTotalMillis, current.acquireCount - previous.acquireCount);
+        double meanUsageMillis = mean(current.usageTotalMillis - previous.usageTotalMillis, current.usageCount - previous.usageCount);
+        int size = config.getMaximumPoolSize();
+        int pending = pool.getThreadsAwaitingConnection();
+        int idlePeriods = 0;
+
+        if (meanWaitMillis > waitThresholdMillis && meanWaitMillis > meanUsageMillis * waitToUsageRatio && size < maxPoolSize) {
+            int next = Math.min(maxPoolSize, size + Math.max(1, pending));
+            resize(poolName, config, size, next, meanWaitMillis, meanUsageMillis);
+        } else if (pending == 0 && pool.getIdleConnections() > 1 && meanWaitMillis < waitThresholdMillis) {
+            idlePeriods = previous.idlePeriods + 1;
+            if (idlePeriods >= shrinkAfterIdlePeriods && size > minPoolSize) {
+                resize(poolName, config, size, size - 1, meanWaitMillis, meanUsageMillis);
+                idlePeriods = 0;
+            }
+        }
+        samples.put(poolName, new PoolSample(current.acquireCount, current.acquireTotalMillis,
+                current.usageCount, current.usageTotalMillis, idlePeriods));
+    }
+
+    private void resize(String poolName, HikariConfigMXBean config, int size, int next,
+                        double meanWaitMillis, double meanUsageMillis) {
+        if (config.getMinimumIdle() > next) {
+            config.setMinimumIdle(next);
+        }
+        config.setMaximumPoolSize(next);
+        logger.info("커넥션 풀 크기 조정: 풀={}, {} -> {}, 평균 대기={}ms, 평균 사용={}ms",
+                poolName, size, next, String.format("%.1f", meanWaitMillis), String.format("%.1f", meanUsageMillis));
+    }
+
+    private static double mean(double totalMillis, long count) {
+        return count > 0 ? totalMillis / count : 0.0;
+    }
+
+    private record PoolSample(long acquireCount, double acquireTotalMillis, long usageCount, double usageTotalMillis,
+                              int idlePeriods) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.util.geo.TrackMetrics;
+
+import java.time.LocalDateTime;
+
+record ImportedWalk(String routeName,
+                    LocalDateTime startTime,
+                    LocalDateTime endTime,
+                    long durationSeconds,
+                    TrackMetrics metrics,
+                    String routeCoordinatesJson,
+                    String dedupeKey) {
+}
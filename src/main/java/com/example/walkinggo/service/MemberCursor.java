@@ -0,0 +1,53 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.MemberDetailDto;
+import com.example.walkinggo.dto.MemberSortOrder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+record MemberCursor(MemberSortOrder sort, Long userId, String value) {
+
+    static MemberCursor after(MemberSortOrder sort, MemberDetailDto member) {
+        String value = switch (sort) {
+            case DISTANCE -> Double.toString(member.getTotalDistanceMeters());
+            case NAME -> member.getUsername();
+            case JOINED_AT -> member.getJoinedAt().toString();
+        };
+        return new MemberCursor(sort, member.getUserId(), value);
+    }
+
+    double distance() {
+        return Double.parseDouble(value);
+    }
+
+    LocalDateTime joinedAt() {
+        return LocalDateTime.parse(value);
+    }
+
+    String encode() {
+        String raw = sort.name() + ":" + userId + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static MemberCursor decode(String cursor, MemberSortOrder expectedSort) {
+        MemberCursor decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+            decoded = new MemberCursor(MemberSortOrder.valueOf(parts[0]), Long.parseLong(parts[1]), parts[2]);
+            switch (decoded.sort()) {
+                case DISTANCE -> decoded.distance();
+                case JOINED_AT -> decoded.joinedAt();
+                default -> { }
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
+        if (decoded.sort() != expectedSort) {
+            throw new IllegalArgumentException("정렬 기준이 커서와 일치하지 않습니다.");
+        }
+        return decoded;
+    }
+}
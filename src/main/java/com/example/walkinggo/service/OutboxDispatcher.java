@@ -0,0 +1,121 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.OutboxEvent;
+import com.example.walkinggo.entity.OutboxEventStatus;
+import com.example.walkinggo.event.OutboxEventHandler;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OutboxEventType, List<OutboxEventHandler>> handlersByType = new EnumMap<>(OutboxEventType.class);
+    private final int batchSize;
+    private final int perUserBatchSize;
+    private final int maxAttempts;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            TransactionTemplate transactionTemplate,
+                            List<OutboxEventHandler> handlers,
+                            MeterRegistry meterRegistry,
+                            @Value("${walkinggo.outbox.batch-size:100}") int batchSize,
+                            @Value("${walkinggo.outbox.per-user-batch-size:20}") int perUserBatchSize,
+                            @Value("${walkinggo.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.perUserBatchSize = perUserBatchSize;
+        this.maxAttempts = maxAttempts;
+        for (OutboxEventHandler handler : handlers) {
+            for (OutboxEventType eventType : handler.getEventTypes()) {
+                handlersByType.computeIfAbsent(eventType, type -> new ArrayList<>()).add(handler);
+            }
+        }
+        Gauge.builder("walkinggo.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("처리 대기 중인 가장 오래된 아웃박스 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.deliveredCounter = meterRegistry.counter("walkinggo.outbox.delivered");
+        this.failedCounter = meterRegistry.counter("walkinggo.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${walkinggo.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        lagMillis.set(outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxEventStatus.PENDING)
+                .map(oldest -> Math.max(Duration.between(oldest.getCreatedAt(), now).toMillis(), 0L))
+                .orElse(0L));
+
+        List<Long> userIds = outboxEventRepository.findUsersWithDueHeadEvent(now, batchSize);
+        for (Long userId : userIds) {
+            List<OutboxEvent> userEvents = outboxEventRepository.findByUserIdAndStatusOrderByIdAsc(
+                    userId, OutboxEventStatus.PENDING, PageRequest.of(0, perUserBatchSize));
+            for (OutboxEvent event : userEvents) {
+                if (event.getNextAttemptAt() != null && event.getNextAttemptAt().isAfter(now)) {
+                    break;
+                }
+                if (!deliver(event)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Scheduled(cron = "${walkinggo.outbox.cleanup-cron:0 0 4 * * *}")
+    public void purgeProcessedEvents() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(7)));
+        logger.info("처리 완료된 아웃박스 이벤트 {}건 삭제", deleted);
+    }
+
+    private boolean deliver(OutboxEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (OutboxEventHandler handler : handlersByType.getOrDefault(event.getEventType(), List.of())) {
+                    handler.handle(event);
+                }
+                outboxEventRepository.markProcessed(event.getId(), LocalDateTime.now());
+            });
+            deliveredCounter.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            int attempts = event.getAttempts() + 1;
+            OutboxEventStatus status = attempts >= maxAttempts ? OutboxEventStatus.DEAD : OutboxEventStatus.PENDING;
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(Math.min(1L << Math.min(attempts, 10), 600L));
+            String error = String.valueOf(e.getMessage());
+            String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+            transactionTemplate.executeWithoutResult(s ->
+                    outboxEventRepository.markFailed(event.getId(), status, attempts, nextAttemptAt, lastError));
+            logger.warn("아웃박스 이벤트 처리 실패: ID={}, 유형={}, 시도 횟수={}, 상태={}",
+                    event.getId(), event.getEventType(), attempts, status, e);
+            return status == OutboxEventStatus.DEAD;
+        }
+    }
+}
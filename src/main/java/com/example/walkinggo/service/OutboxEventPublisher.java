@@ -0,0 +1,45 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.OutboxEvent;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Long userId, OutboxEventType eventType, Object payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .userId(userId)
+                .eventType(eventType)
+                .payload(writePayload(payload))
+                .build();
+        outboxEventRepository.save(event);
+    }
+
+    public <T> T readPayload(OutboxEvent event, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(event.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 페이로드를 읽을 수 없습니다: ID " + event.getId(), e);
+        }
+    }
+
+    private String writePayload(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 페이로드를 직렬화할 수 없습니다.", e);
+        }
+    }
+}
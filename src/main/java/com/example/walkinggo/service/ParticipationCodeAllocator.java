@@ -0,0 +1,70 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.CodeSequence;
+import com.example.walkinggo.repository.CodeSequenceRepository;
+import com.example.walkinggo.util.ParticipationCodePermutation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ParticipationCodeAllocator {
+
+    private static final String SEQUENCE_NAME = "participation_code";
+
+    private final CodeSequenceRepository codeSequenceRepository;
+    private final GroupCodeCache groupCodeCache;
+    private final ParticipationCodePermutation permutation;
+    private final TransactionTemplate reservationTransaction;
+    private final int blockSize;
+    private final Logger logger = LoggerFactory.getLogger(ParticipationCodeAllocator.class);
+
+    private long nextSequence;
+    private long blockEnd;
+
+    public ParticipationCodeAllocator(CodeSequenceRepository codeSequenceRepository,
+                                      GroupCodeCache groupCodeCache,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${walkinggo.group-code.secret}") String secret,
+                                      @Value("${walkinggo.group-code.block-size:100}") int blockSize) {
+        this.codeSequenceRepository = codeSequenceRepository;
+        this.groupCodeCache = groupCodeCache;
+        this.permutation = new ParticipationCodePermutation(secret);
+        this.reservationTransaction = new TransactionTemplate(transactionManager);
+        this.reservationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public synchronized String allocate() {
+        while (true) {
+            if (nextSequence >= blockEnd) {
+                reserveBlock();
+            }
+            String code = permutation.codeOf(nextSequence++);
+            if (!groupCodeCache.isKnown(code)) {
+                return code;
+            }
+        }
+    }
+
+    private void reserveBlock() {
+        Long start = reservationTransaction.execute(status -> {
+            codeSequenceRepository.createIfAbsent(SEQUENCE_NAME);
+            CodeSequence sequence = codeSequenceRepository.findForUpdate(SEQUENCE_NAME)
+                    .orElseThrow(() -> new IllegalStateException("참여 코드 시퀀스를 찾을 수 없습니다."));
+            long reserved = sequence.getNextValue();
+            if (reserved >= ParticipationCodePermutation.CODE_SPACE) {
+                throw new IllegalStateException("발급 가능한 참여 코드가 모두 소진되었습니다.");
+            }
+            sequence.setNextValue(Math.min(reserved + blockSize, ParticipationCodePermutation.CODE_SPACE));
+            return reserved;
+        });
+        nextSequence = start;
+        blockEnd = Math.min(start + blockSize, ParticipationCodePermutation.CODE_SPACE);
+        logger.debug("참여 코드 블록 예약: {} ~ {}", nextSequence, blockEnd - 1);
+    }
+}
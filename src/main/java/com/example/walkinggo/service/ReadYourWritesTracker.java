@@ -0,0 +1,69 @@
+package com.example.walkinggo.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ReadYourWritesTracker {
+
+    private static final String PRIMARY_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".PRIMARY";
+
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final Map<String, Long> resourceStickyUntil = new ConcurrentHashMap<>();
+    private final long stickyWindowMillis;
+
+    public ReadYourWritesTracker(@Value("${walkinggo.datasource.replica.sticky-window-ms:3000}") long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    public void markWrite(String username) {
+        stickyUntil.put(username, System.currentTimeMillis() + stickyWindowMillis);
+    }
+
+    public void markResourcesChanged(String... keys) {
+        long until = System.currentTimeMillis() + stickyWindowMillis;
+        for (String key : keys) {
+            resourceStickyUntil.put(key, until);
+        }
+    }
+
+    public void pinRequestIfChanged(String... keys) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (String key : keys) {
+            Long until = resourceStickyUntil.get(key);
+            if (until != null && now < until) {
+                attributes.setAttribute(PRIMARY_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+                return;
+            }
+        }
+    }
+
+    public boolean requiresPrimary(String username) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(PRIMARY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        if (username == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(username);
+        return until != null && System.currentTimeMillis() < until;
+    }
+
+    @Scheduled(fixedDelayString = "${walkinggo.datasource.replica.sticky-cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+        resourceStickyUntil.values().removeIf(until -> until <= now);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.walkinggo.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class RecentUploadCache {
+
+    private final Map<String, Long> walkLogIdsByDedupeKey;
+
+    public RecentUploadCache(@Value("${walkinggo.walk-log.recent-upload-cache-size:10000}") int maxEntries) {
+        this.walkLogIdsByDedupeKey = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized Long get(String dedupeKey) {
+        return walkLogIdsByDedupeKey.get(dedupeKey);
+    }
+
+    public synchronized void put(String dedupeKey, Long walkLogId) {
+        walkLogIdsByDedupeKey.put(dedupeKey, walkLogId);
+    }
+
+    public synchronized void evict(String dedupeKey) {
+        walkLogIdsByDedupeKey.remove(dedupeKey);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.walkinggo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "walkinggo.datasource.replica.url")
+public class ReplicaLagMonitor {
+
+    private static final long UNKNOWN_LAG = -1L;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+    private final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private volatile long lagSeconds = UNKNOWN_LAG;
+
+    public ReplicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                             @Value("${walkinggo.datasource.replica.max-lag-seconds:1}") long maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReplicaUsable() {
+        long lag = lagSeconds;
+        return lag != UNKNOWN_LAG && lag <= maxLagSeconds;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${walkinggo.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        long previous = lagSeconds;
+        long current = readLag();
+        lagSeconds = current;
+        boolean wasUsable = previous != UNKNOWN_LAG && previous <= maxLagSeconds;
+        if (wasUsable && !isReplicaUsable()) {
+            logger.warn("읽기 전용 복제본 지연으로 조회를 기본 DB로 전환합니다: 지연={}초", current == UNKNOWN_LAG ? "알 수 없음" : current);
+        } else if (!wasUsable && isReplicaUsable()) {
+            logger.info("읽기 전용 복제본으로 조회 분산을 재개합니다: 지연={}초", current);
+        }
+    }
+
+    private long readLag() {
+        try {
+            List<Long> lags = replicaJdbcTemplate.query("SHOW REPLICA STATUS", (rs, rowNum) -> {
+                boolean running = "Yes".equals(rs.getString("Replica_IO_Running"))
+                        && "Yes".equals(rs.getString("Replica_SQL_Running"));
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return running && !rs.wasNull() ? lag : UNKNOWN_LAG;
+            });
+            return lags.isEmpty() || lags.contains(UNKNOWN_LAG) ? UNKNOWN_LAG : Collections.max(lags);
+        } catch (DataAccessException e) {
+            logger.debug("복제 지연 조회 실패", e);
+            return UNKNOWN_LAG;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.walkinggo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+public class ResourceVersionRegistry {
+
+    public static final String GROUPS = "groups";
+    public static final String RECOMMENDED_ROUTES = "routes:recommended";
+    public static final String GROUP_RANKING = "groups:ranking";
+
+    private final String bootEpoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<String, AtomicLong> revisions = new ConcurrentHashMap<>();
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public static String user(String username) {
+        return "user:" + username;
+    }
+
+    public static String group(Long groupId) {
+        return "group:" + groupId;
+    }
+
+    public String etag(String... keys) {
+        readYourWritesTracker.pinRequestIfChanged(keys);
+        StringBuilder etag = new StringBuilder("\"").append(bootEpoch);
+        for (String key : keys) {
+            etag.append('-').append(Long.toString(revision(key), 36));
+        }
+        return etag.append('"').toString();
+    }
+
+    public String viewerEtag(String viewer, String... keys) {
+        String etag = etag(keys);
+        return etag.substring(0, etag.length() - 1) + "-" + Integer.toHexString(viewer.hashCode()) + "\"";
+    }
+
+    public void bump(String... keys) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(keys);
+                }
+            });
+        } else {
+            increment(keys);
+        }
+    }
+
+    private long revision(String key) {
+        AtomicLong revision = revisions.get(key);
+        return revision != null ? revision.get() : 0L;
+    }
+
+    private void increment(String... keys) {
+        for (String key : keys) {
+            revisions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        }
+        readYourWritesTracker.markResourcesChanged(keys);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.repository.WalkLogRepository;
+import com.example.walkinggo.util.geo.RouteFingerprint;
+import com.example.walkinggo.util.geo.TrackPoints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class RouteSimilarityIndex {
+
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final WalkLogRepository walkLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double similarityThreshold;
+    private final Map<Long, int[]> representativeSignatures = new HashMap<>();
+    private final Map<Long, List<Long>> representativesByBandKey = new HashMap<>();
+    private final Map<Long, Long> representatives = new HashMap<>();
+    private final Map<Long, Integer> clusterSizes = new HashMap<>();
+    private final Logger logger = LoggerFactory.getLogger(RouteSimilarityIndex.class);
+
+    public RouteSimilarityIndex(WalkLogRepository walkLogRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${walkinggo.route-similarity.threshold:0.5}") double similarityThreshold) {
+        this.walkLogRepository = walkLogRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    public void indexPublishedRoute(WalkLog walkLog) {
+        int[] signature = RouteFingerprint.fromBytes(walkLog.getRouteFingerprint());
+        if (signature == null) {
+            signature = fingerprint(walkLog.getRouteCoordinatesJson());
+            if (signature == null) {
+                return;
+            }
+            walkLog.setRouteFingerprint(RouteFingerprint.toBytes(signature));
+        }
+        Long walkLogId = walkLog.getId();
+        int[] indexedSignature = signature;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(walkLogId, indexedSignature);
+                }
+            });
+        } else {
+            add(walkLogId, indexedSignature);
+        }
+    }
+
+    public synchronized boolean isRepresentative(Long walkLogId) {
+        return !representatives.containsKey(walkLogId) || representatives.get(walkLogId).equals(walkLogId);
+    }
+
+    public synchronized int clusterSizeOf(Long walkLogId) {
+        Long representative = representatives.get(walkLogId);
+        return representative != null ? clusterSizes.get(representative) : 1;
+    }
+
+    public synchronized Set<Long> nonRepresentativeIds() {
+        Set<Long> members = new HashSet<>();
+        representatives.forEach((walkLogId, representative) -> {
+            if (!walkLogId.equals(representative)) {
+                members.add(walkLogId);
+            }
+        });
+        return members;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int backfilled = backfillMissingFingerprints();
+        long afterId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<Object[]> page = walkLogRepository.findPublicRouteFingerprints(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (Object[] row : page) {
+                int[] signature = RouteFingerprint.fromBytes((byte[]) row[1]);
+                if (signature != null) {
+                    add((Long) row[0], signature);
+                    loaded++;
+                }
+            }
+            afterId = (Long) page.get(page.size() - 1)[0];
+        }
+        logger.info("경로 유사도 색인 적재 완료: 경로 {}건 (지문 신규 계산 {}건)", loaded, backfilled);
+    }
+
+    synchronized void add(Long walkLogId, int[] signature) {
+        if (representatives.containsKey(walkLogId)) {
+            return;
+        }
+        Long bestRepresentative = null;
+        double bestSimilarity = 0.0;
+        Set<Long> compared = new HashSet<>();
+        for (int band = 0; band < RouteFingerprint.BANDS; band++) {
+            List<Long> bucket = representativesByBandKey.get(RouteFingerprint.bandKey(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (Long candidate : bucket) {
+                if (!compared.add(candidate)) {
+                    continue;
+                }
+                double similarity = RouteFingerprint.similarity(signature, representativeSignatures.get(candidate));
+                if (similarity >= similarityThreshold && (bestRepresentative == null || similarity > bestSimilarity)) {
+                    bestRepresentative = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        if (bestRepresentative != null) {
+            representatives.put(walkLogId, bestRepresentative);
+            clusterSizes.merge(bestRepresentative, 1, Integer::sum);
+            return;
+        }
+        representatives.put(walkLogId, walkLogId);
+        representativeSignatures.put(walkLogId, signature);
+        clusterSizes.put(walkLogId, 1);
+        for (int band = 0; band < RouteFingerprint.BANDS; band++) {
+            representativesByBandKey.computeIfAbsent(RouteFingerprint.bandKey(signature, band), key -> new ArrayList<>(2))
+                    .add(walkLogId);
+        }
+    }
+
+    private int backfillMissingFingerprints() {
+        int backfilled = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> ids = walkLogRepository.findPublicRouteIdsWithoutFingerprint(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (ids.isEmpty()) {
+                return backfilled;
+            }
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Long id : ids) {
+                    int[] signature = fingerprint(walkLogRepository.findRouteCoordinatesJsonById(id).orElse(null));
+                    byte[] fingerprint = signature != null ? RouteFingerprint.toBytes(signature) : new byte[0];
+                    walkLogRepository.updateRouteFingerprint(id, fingerprint);
+                    count += signature != null ? 1 : 0;
+                }
+                return count;
+            });
+            backfilled += updated != null ? updated : 0;
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private int[] fingerprint(String routeCoordinatesJson) {
+        if (routeCoordinatesJson == null || routeCoordinatesJson.isBlank()) {
+            return null;
+        }
+        try {
+            TrackPoints points = TrackPoints.parse(routeCoordinatesJson);
+            return points.size() >= 2 ? RouteFingerprint.compute(points) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.util.geo.RouteThumbnailRenderer;
+import com.example.walkinggo.util.geo.TrackPoints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Service
+public class RouteThumbnailService {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path directory;
+    private final int size;
+    private final Logger logger = LoggerFactory.getLogger(RouteThumbnailService.class);
+
+    public RouteThumbnailService(@Value("${walkinggo.thumbnail.directory:uploads/thumbnails}") String directory,
+                                 @Value("${walkinggo.thumbnail.size:256}") int size) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.size = size;
+    }
+
+    public static String urlOf(String thumbnailHash) {
+        return thumbnailHash != null ? "/thumbnails/" + thumbnailHash + ".png" : null;
+    }
+
+    public boolean ensureThumbnail(WalkLog walkLog) {
+        if (walkLog.getThumbnailHash() != null && Files.exists(pathOf(walkLog.getThumbnailHash()))) {
+            return false;
+        }
+        String routeCoordinatesJson = walkLog.getRouteCoordinatesJson();
+        if (routeCoordinatesJson == null || routeCoordinatesJson.isBlank()) {
+            return false;
+        }
+        try {
+            TrackPoints points = TrackPoints.parse(routeCoordinatesJson);
+            if (points.size() < 2) {
+                return false;
+            }
+            byte[] png = RouteThumbnailRenderer.renderPng(points, size);
+            String hash = sha256Hex(png);
+            store(hash, png);
+            boolean changed = !hash.equals(walkLog.getThumbnailHash());
+            walkLog.setThumbnailHash(hash);
+            return changed;
+        } catch (IllegalArgumentException e) {
+            logger.warn("경로 좌표를 해석할 수 없어 썸네일을 만들지 않습니다: 기록 ID={}", walkLog.getId());
+        } catch (IOException e) {
+            logger.error("경로 썸네일 저장 실패: 기록 ID={}", walkLog.getId(), e);
+        }
+        return false;
+    }
+
+    public Optional<Path> findThumbnail(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private void store(String hash, byte[] png) throws IOException {
+        Path target = pathOf(hash);
+        if (Files.exists(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+        try {
+            Files.write(temp, png);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path pathOf(String hash) {
+        return directory.resolve(hash.substring(0, 2)).resolve(hash + ".png");
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.event.WalkLogsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class ShareResponseCache {
+
+    public record Entry(Long walkLogId, byte[] json, byte[] gzip, String etag) {
+
+        long weight() {
+            return json.length + (gzip != null ? gzip.length : 0) + 128L;
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<UUID, Entry> entriesByShareId = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<Long, UUID> shareIdsByWalkLogId = new HashMap<>();
+    private long totalBytes;
+    private long generation;
+
+    public ShareResponseCache(@Value("${walkinggo.share.response-cache-max-bytes:67108864}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized Entry get(UUID shareId) {
+        return entriesByShareId.get(shareId);
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized void putIfUnchanged(UUID shareId, Entry entry, long expectedGeneration) {
+        if (generation != expectedGeneration || entry.weight() > maxBytes) {
+            return;
+        }
+        remove(shareId);
+        entriesByShareId.put(shareId, entry);
+        shareIdsByWalkLogId.put(entry.walkLogId(), shareId);
+        totalBytes += entry.weight();
+        Iterator<Map.Entry<UUID, Entry>> eldest = entriesByShareId.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Entry evicted = eldest.next().getValue();
+            eldest.remove();
+            shareIdsByWalkLogId.remove(evicted.walkLogId());
+            totalBytes -= evicted.weight();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onWalkLogsChanged(WalkLogsChangedEvent event) {
+        generation++;
+        for (Long walkLogId : event.walkLogIds()) {
+            UUID shareId = shareIdsByWalkLogId.get(walkLogId);
+            if (shareId != null) {
+                remove(shareId);
+            }
+        }
+    }
+
+    private void remove(UUID shareId) {
+        Entry removed = entriesByShareId.remove(shareId);
+        if (removed != null) {
+            shareIdsByWalkLogId.remove(removed.walkLogId());
+            totalBytes -= removed.weight();
+        }
+    }
+}
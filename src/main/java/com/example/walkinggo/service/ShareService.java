@@ -3,32 +3,60 @@ package com.example.walkinggo.service;
 import com.example.walkinggo.dto.WalkLogResponse;
 import com.example.walkinggo.entity.SharedRoute;
 import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.event.WalkLogsChangedEvent;
 import com.example.walkinggo.repository.SharedRouteRepository;
 import com.example.walkinggo.repository.WalkLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @Service
 @RequiredArgsConstructor
 public class ShareService {
 
+    private static final int GZIP_MIN_BYTES = 1024;
+
     private final SharedRouteRepository sharedRouteRepository;
     private final WalkLogRepository walkLogRepository;
+    private final ShareResponseCache shareResponseCache;
+    private final ObjectMapper objectMapper;
+    private final RouteThumbnailService routeThumbnailService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ResourceVersionRegistry resourceVersionRegistry;
+    private final WalkLogRouteArchiveService routeArchiveService;
 
     @Transactional
     public UUID createShareLink(Long walkLogId, String username) {
-        WalkLog walkLog = walkLogRepository.findById(walkLogId)
+        WalkLog walkLog = walkLogRepository.findByIdForUpdate(walkLogId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 산책 기록을 찾을 수 없습니다."));
 
         if (!walkLog.getUser().getUsername().equals(username)) {
             throw new AccessDeniedException("자신의 산책 기록만 공유할 수 있습니다.");
         }
 
+        routeArchiveService.restore(walkLog);
+        if (routeThumbnailService.ensureThumbnail(walkLog)) {
+            applicationEventPublisher.publishEvent(new WalkLogsChangedEvent(List.of(walkLogId)));
+            if (walkLog.isPublicRoute()) {
+                resourceVersionRegistry.bump(ResourceVersionRegistry.RECOMMENDED_ROUTES);
+            }
+        }
+
         return sharedRouteRepository.findByWalkLogId(walkLogId)
                 .map(SharedRoute::getShareId)
                 .orElseGet(() -> {
@@ -39,11 +67,46 @@ public class ShareService {
                     return sharedRouteRepository.save(newSharedRoute).getShareId();
                 });
     }
-    @Transactional(readOnly = true)
-    public WalkLogResponse getSharedRoute(UUID shareId) {
-        SharedRoute sharedRoute = sharedRouteRepository.findByShareId(shareId)
+
+    public ShareResponseCache.Entry getSharedRoute(UUID shareId) {
+        ShareResponseCache.Entry cached = shareResponseCache.get(shareId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = shareResponseCache.generation();
+        SharedRoute sharedRoute = sharedRouteRepository.findWithWalkLogByShareId(shareId)
                 .orElseThrow(() -> new EntityNotFoundException("유효하지 않은 공유 링크입니다."));
+        ShareResponseCache.Entry entry = serialize(WalkLogResponse.fromEntity(sharedRoute.getWalkLog()));
+        shareResponseCache.putIfUnchanged(shareId, entry, generation);
+        return entry;
+    }
 
-        return WalkLogResponse.fromEntity(sharedRoute.getWalkLog());
+    private ShareResponseCache.Entry serialize(WalkLogResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            byte[] gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+            return new ShareResponseCache.Entry(response.getId(), json, gzip, etagOf(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공유 경로 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etagOf(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,13 +3,18 @@ package com.example.walkinggo.service;
 import com.example.walkinggo.dto.*;
 import com.example.walkinggo.entity.User;
 import com.example.walkinggo.entity.UserGroup;
+import com.example.walkinggo.repository.GroupActivityRepository;
+import com.example.walkinggo.repository.GroupChallengeRepository;
+import com.example.walkinggo.repository.GroupMembershipRepository;
 import com.example.walkinggo.repository.UserGroupRepository;
 import com.example.walkinggo.repository.UserRepository;
-import com.example.walkinggo.repository.WalkLogRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,9 +26,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserGroupService {
 
+    private static final int DETAIL_MEMBER_PAGE_SIZE = 50;
+    private static final String ALREADY_IN_GROUP_MESSAGE = "이미 다른 그룹에 가입되어 있습니다. 한 명의 사용자는 하나의 그룹에만 가입할 수 있습니다.";
+
     private final UserGroupRepository userGroupRepository;
+    private final GroupMembershipRepository groupMembershipRepository;
+    private final GroupActivityRepository groupActivityRepository;
+    private final GroupChallengeRepository groupChallengeRepository;
     private final UserRepository userRepository;
-    private final WalkLogRepository walkLogRepository;
+    private final ResourceVersionRegistry resourceVersionRegistry;
+    private final GroupSearchIndex groupSearchIndex;
+    private final GroupCodeCache groupCodeCache;
+    private final GroupActivityFeed groupActivityFeed;
+    private final ParticipationCodeAllocator participationCodeAllocator;
     private final Logger logger = LoggerFactory.getLogger(UserGroupService.class);
 
     @Transactional
@@ -31,8 +46,8 @@ public class UserGroupService {
         User owner = userRepository.findByUsername(ownerUsername)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + ownerUsername));
 
-        if (!owner.getGroups().isEmpty()) {
-            throw new IllegalStateException("이미 다른 그룹에 가입되어 있습니다. 한 명의 사용자는 하나의 그룹에만 가입할 수 있습니다.");
+        if (userGroupRepository.countGroupsOfUser(owner.getId()) > 0) {
+            throw new IllegalStateException(ALREADY_IN_GROUP_MESSAGE);
         }
 
         UserGroup.UserGroupBuilder groupBuilder = UserGroup.builder()
@@ -44,19 +59,20 @@ public class UserGroupService {
             groupBuilder.description(request.getDescription());
             groupBuilder.participationCode(null);
         } else {
-            if (request.getParticipationCode() == null || request.getParticipationCode().trim().isEmpty()) {
-                throw new IllegalArgumentException("비공개 그룹을 생성하려면 참여 코드를 입력해야 합니다.");
-            }
-            if (userGroupRepository.existsByParticipationCode(request.getParticipationCode())) {
-                throw new IllegalStateException("이미 사용 중인 참여 코드입니다. 다른 코드를 입력해주세요.");
-            }
-            groupBuilder.participationCode(request.getParticipationCode());
+            groupBuilder.participationCode(participationCodeAllocator.allocate());
             groupBuilder.description(null);
         }
 
-        UserGroup group = groupBuilder.build();
-        group.addMember(owner);
-        UserGroup savedGroup = userGroupRepository.save(group);
+        UserGroup savedGroup = userGroupRepository.saveAndFlush(groupBuilder.memberCount(1).build());
+        if (userGroupRepository.insertMembership(savedGroup.getId(), owner.getId()) == 0) {
+            throw new IllegalStateException(ALREADY_IN_GROUP_MESSAGE);
+        }
+        resourceVersionRegistry.bump(ResourceVersionRegistry.GROUPS, ResourceVersionRegistry.group(savedGroup.getId()));
+        if (savedGroup.getIsPublic()) {
+            groupSearchIndex.addAfterCommit(savedGroup.getId(), savedGroup.getName());
+        } else {
+            groupCodeCache.putAfterCommit(savedGroup.getParticipationCode(), savedGroup.getId());
+        }
         return GroupResponse.fromEntity(savedGroup);
     }
 
@@ -65,19 +81,12 @@ public class UserGroupService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
 
-        if (!user.getGroups().isEmpty()) {
-            throw new IllegalStateException("이미 다른 그룹에 가입되어 있습니다. 한 명의 사용자는 하나의 그룹에만 가입할 수 있습니다.");
-        }
-
-        UserGroup group = userGroupRepository.findByParticipationCode(participationCode)
+        Long groupId = groupCodeCache.findGroupId(participationCode)
                 .orElseThrow(() -> new EntityNotFoundException("유효하지 않은 참가 코드입니다: " + participationCode));
-
-        if (group.getIsPublic()) {
-            throw new IllegalArgumentException("비공개 그룹 참가는 코드를 통해서만 가능합니다.");
-        }
-        group.addMember(user);
-        UserGroup savedGroup = userGroupRepository.save(group);
-        return GroupResponse.fromEntity(savedGroup);
+        addMembership(groupId, user.getId());
+        UserGroup joinedGroup = userGroupRepository.findById(groupId)
+                .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId));
+        return GroupResponse.forViewer(joinedGroup, username);
     }
 
     @Transactional
@@ -85,32 +94,78 @@ public class UserGroupService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
 
-        if (!user.getGroups().isEmpty()) {
-            throw new IllegalStateException("이미 다른 그룹에 가입되어 있습니다. 한 명의 사용자는 하나의 그룹에만 가입할 수 있습니다.");
-        }
-
         UserGroup group = userGroupRepository.findById(groupId)
                 .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId));
         if (!group.getIsPublic()) {
             throw new IllegalArgumentException("공개 그룹만 이 방법으로 참가할 수 있습니다.");
         }
-        if (group.getMembers().contains(user)) {
-            throw new IllegalStateException("이미 해당 그룹의 멤버입니다.");
+        addMembership(groupId, user.getId());
+    }
+
+    private void addMembership(Long groupId, Long userId) {
+        if (userGroupRepository.adjustMemberCount(groupId, 1) == 0) {
+            throw new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId);
+        }
+        if (userGroupRepository.insertMembership(groupId, userId) == 0) {
+            if (userGroupRepository.countMembership(groupId, userId) > 0) {
+                throw new IllegalStateException("이미 해당 그룹의 멤버입니다.");
+            }
+            throw new IllegalStateException(ALREADY_IN_GROUP_MESSAGE);
+        }
+        resourceVersionRegistry.bump(ResourceVersionRegistry.GROUPS, ResourceVersionRegistry.group(groupId));
+    }
+
+    @Transactional(readOnly = true)
+    public GroupPageResponse getPublicGroups(String cursor, int size) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1~100 사이여야 합니다.");
+        }
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<SimpleGroupResponse> groups;
+        if (cursor == null || cursor.isBlank()) {
+            groups = userGroupRepository.findPublicGroupPage(limit);
+        } else {
+            GroupCursor after = GroupCursor.decode(cursor);
+            groups = userGroupRepository.findPublicGroupPageAfter(after.name(), after.id(), limit);
+        }
+        String nextCursor = null;
+        if (groups.size() > size) {
+            groups = groups.subList(0, size);
+            SimpleGroupResponse last = groups.get(size - 1);
+            nextCursor = new GroupCursor(last.getName(), last.getId()).encode();
         }
-        group.addMember(user);
-        userGroupRepository.save(group);
+        return new GroupPageResponse(groups, nextCursor);
     }
 
-    public List<SimpleGroupResponse> getPublicGroups() {
-        return userGroupRepository.findByIsPublicTrueOrderByNameAsc().stream()
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillMemberCounts() {
+        int updated = userGroupRepository.backfillMemberCounts();
+        if (updated > 0) {
+            logger.info("그룹 멤버 수 컬럼 초기화 완료: {}개 그룹", updated);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public GroupSearchResponse searchPublicGroups(String query, int page, int size) {
+        if (page < 0 || size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상, 페이지 크기는 1~100 사이여야 합니다.");
+        }
+        GroupSearchIndex.SearchResult result = groupSearchIndex.search(query, page, size);
+        Map<Long, UserGroup> groupsById = userGroupRepository.findAllById(result.groupIds()).stream()
+                .collect(Collectors.toMap(UserGroup::getId, group -> group));
+        List<SimpleGroupResponse> groups = result.groupIds().stream()
+                .map(groupsById::get)
+                .filter(Objects::nonNull)
                 .map(SimpleGroupResponse::fromEntity)
                 .collect(Collectors.toList());
+        return new GroupSearchResponse(query, page, size, result.totalCount(), groups);
     }
 
-    public GroupResponse getGroupDetails(Long groupId) {
+    public GroupResponse getGroupDetails(Long groupId, String viewerUsername) {
         UserGroup group = userGroupRepository.findById(groupId)
                 .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId));
-        return GroupResponse.fromEntity(group);
+        return GroupResponse.forViewer(group, viewerUsername);
     }
 
     @Transactional
@@ -119,18 +174,21 @@ public class UserGroupService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
         UserGroup group = userGroupRepository.findById(groupId)
                 .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId));
-        if (!group.getMembers().contains(user)) {
+        if (userGroupRepository.countMembership(groupId, user.getId()) == 0) {
             throw new IllegalStateException("해당 그룹의 멤버가 아닙니다.");
         }
-        if (group.getOwner().equals(user)) {
-            if (group.getMembers().size() > 1) {
+        if (group.getOwner().getId().equals(user.getId())) {
+            if (group.getMemberCount() > 1) {
                 throw new IllegalStateException("그룹장은 그룹을 탈퇴할 수 없습니다. 그룹을 삭제하거나 다른 멤버에게 그룹장을 위임해야 합니다.");
             }
             logger.info("마지막 멤버인 그룹장 {}가 탈퇴하여 그룹(ID:{})을 삭제합니다.", username, groupId);
             deleteGroup(groupId, username);
         } else {
-            group.removeMember(user);
-            userGroupRepository.save(group);
+            if (userGroupRepository.deleteMembership(groupId, user.getId()) == 0) {
+                throw new IllegalStateException("해당 그룹의 멤버가 아닙니다.");
+            }
+            userGroupRepository.adjustMemberCount(groupId, -1);
+            resourceVersionRegistry.bump(ResourceVersionRegistry.GROUPS, ResourceVersionRegistry.group(groupId));
         }
     }
 
@@ -140,16 +198,21 @@ public class UserGroupService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
         UserGroup group = userGroupRepository.findById(groupId)
                 .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId));
-        if (!group.getOwner().equals(user)) {
+        if (!group.getOwner().getId().equals(user.getId())) {
             throw new AccessDeniedException("그룹 소유자만 그룹을 삭제할 수 있습니다.");
         }
 
-        Set<User> members = group.getMembers();
-        for(User member : members) {
-            member.getGroups().remove(group);
+        int removedMembers = userGroupRepository.deleteMembershipsOfGroup(groupId);
+        groupActivityRepository.deleteAllOfGroup(groupId);
+        groupChallengeRepository.deleteAllOfGroup(groupId);
+        userGroupRepository.deleteGroupById(groupId);
+        logger.info("그룹(ID:{}) 삭제 완료: 멤버 {}명 탈퇴 처리", groupId, removedMembers);
+        resourceVersionRegistry.bump(ResourceVersionRegistry.GROUPS, ResourceVersionRegistry.GROUP_RANKING, ResourceVersionRegistry.group(groupId));
+        groupSearchIndex.removeAfterCommit(groupId);
+        groupActivityFeed.evictAfterCommit(groupId);
+        if (group.getParticipationCode() != null) {
+            groupCodeCache.removeAfterCommit(group.getParticipationCode());
         }
-
-        userGroupRepository.delete(group);
     }
 
     @Transactional(readOnly = true)
@@ -165,13 +228,14 @@ public class UserGroupService {
     }
 
     @Transactional(readOnly = true)
-    public List<MemberResponse> getGroupMembers(Long groupId) {
-        UserGroup group = userGroupRepository.findById(groupId)
-                .orElseThrow(() -> new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId));
-
-        return group.getMembers().stream()
-                .map(MemberResponse::new)
-                .collect(Collectors.toList());
+    public MemberPageResponse getGroupMembers(Long groupId, MemberSortOrder sort, String cursor, int size) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1~100 사이여야 합니다.");
+        }
+        if (!userGroupRepository.existsById(groupId)) {
+            throw new EntityNotFoundException("그룹을 찾을 수 없습니다: ID " + groupId);
+        }
+        return findMemberPage(groupId, sort, cursor, size);
     }
 
     @Transactional(readOnly = true)
@@ -181,27 +245,33 @@ public class UserGroupService {
         User currentUser = userRepository.findByUsername(currentUsername)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + currentUsername));
 
-        Set<User> members = group.getMembers();
-        if (members.isEmpty()) {
-            return GroupDetailResponse.from(group, currentUser, Collections.emptyList());
-        }
-
-        List<Object[]> distanceResults = walkLogRepository.findTotalDistanceByUsers(new ArrayList<>(members));
-        Map<Long, Double> distanceMap = distanceResults.stream()
-                .collect(Collectors.toMap(
-                        result -> (Long) result[0],
-                        result -> (Double) result[1]
-                ));
-
-        List<MemberDetailDto> memberDetailDtos = members.stream()
-                .map(member -> {
-                    Double totalDistance = distanceMap.getOrDefault(member.getId(), 0.0);
-                    boolean isMemberTheOwner = member.getId().equals(group.getOwner().getId());
-                    return new MemberDetailDto(member, totalDistance, isMemberTheOwner);
-                })
-                .sorted(Comparator.comparing(MemberDetailDto::getTotalDistanceKm).reversed())
-                .collect(Collectors.toList());
+        boolean currentUserIsMember = userGroupRepository.countMembership(groupId, currentUser.getId()) > 0;
+        MemberPageResponse firstPage = findMemberPage(groupId, MemberSortOrder.DISTANCE, null, DETAIL_MEMBER_PAGE_SIZE);
+        return GroupDetailResponse.from(group, currentUser, currentUserIsMember, firstPage);
+    }
 
-        return GroupDetailResponse.from(group, currentUser, memberDetailDtos);
+    private MemberPageResponse findMemberPage(Long groupId, MemberSortOrder sort, String cursor, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<MemberDetailDto> members;
+        if (cursor == null || cursor.isBlank()) {
+            members = switch (sort) {
+                case DISTANCE -> groupMembershipRepository.findMembersByDistance(groupId, limit);
+                case NAME -> groupMembershipRepository.findMembersByName(groupId, limit);
+                case JOINED_AT -> groupMembershipRepository.findMembersByJoinedAt(groupId, limit);
+            };
+        } else {
+            MemberCursor after = MemberCursor.decode(cursor, sort);
+            members = switch (sort) {
+                case DISTANCE -> groupMembershipRepository.findMembersByDistanceAfter(groupId, after.distance(), after.userId(), limit);
+                case NAME -> groupMembershipRepository.findMembersByNameAfter(groupId, after.value(), after.userId(), limit);
+                case JOINED_AT -> groupMembershipRepository.findMembersByJoinedAtAfter(groupId, after.joinedAt(), after.userId(), limit);
+            };
+        }
+        String nextCursor = null;
+        if (members.size() > size) {
+            members = members.subList(0, size);
+            nextCursor = MemberCursor.after(sort, members.get(size - 1)).encode();
+        }
+        return new MemberPageResponse(members, nextCursor);
     }
-}
\ No newline at end of file
+}
@@ -26,6 +26,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ResourceVersionRegistry resourceVersionRegistry;
     private final Logger logger = LoggerFactory.getLogger(UserService.class);
 
     @Transactional
@@ -95,6 +96,7 @@ public class UserService {
 
         if (updated) {
             User updatedUser = userRepository.save(user);
+            resourceVersionRegistry.bump(ResourceVersionRegistry.user(username));
             logger.info("사용자 정보 업데이트 성공: {}", username);
             return UserProfileResponse.fromEntity(updatedUser);
         } else {
@@ -109,6 +111,7 @@ public class UserService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
         user.setWeightKg(weightKg);
         User updatedUser = userRepository.save(user);
+        resourceVersionRegistry.bump(ResourceVersionRegistry.user(username));
         logger.info("사용자 체중 업데이트 성공: {}", username);
         return UserProfileResponse.fromEntity(updatedUser);
     }
@@ -119,6 +122,7 @@ public class UserService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
         user.setTargetDistanceKm(targetDistanceKm);
         User updatedUser = userRepository.save(user);
+        resourceVersionRegistry.bump(ResourceVersionRegistry.user(username));
         logger.info("사용자 목표 거리 업데이트 성공: {}", username);
         return UserProfileResponse.fromEntity(updatedUser);
     }
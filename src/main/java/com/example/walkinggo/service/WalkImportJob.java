@@ -0,0 +1,44 @@
+package com.example.walkinggo.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class WalkImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final Long userId;
+    private final AtomicInteger parsedTracks = new AtomicInteger();
+    private final AtomicInteger importedWalks = new AtomicInteger();
+    private final AtomicInteger skippedWalks = new AtomicInteger();
+    private final AtomicInteger failedTracks = new AtomicInteger();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    @Setter
+    private volatile Status status = Status.QUEUED;
+    @Setter
+    private volatile String message;
+    @Setter
+    private volatile LocalDateTime startedAt;
+    @Setter
+    private volatile LocalDateTime finishedAt;
+
+    public WalkImportJob(Long userId) {
+        this.userId = userId;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
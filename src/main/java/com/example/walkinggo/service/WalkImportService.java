@@ -0,0 +1,349 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.WalkImportJobResponse;
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.event.WalkLogsImportedEvent;
+import com.example.walkinggo.repository.UserRepository;
+import com.example.walkinggo.util.WalkLogDedupeKeys;
+import com.example.walkinggo.util.geo.GpxTrackReader;
+import com.example.walkinggo.util.geo.RouteGeometryProcessor;
+import com.example.walkinggo.util.geo.TrackMetrics;
+import com.example.walkinggo.util.geo.TrackPoints;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+@Service
+public class WalkImportService {
+
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final UserRepository userRepository;
+    private final RouteGeometryProcessor routeGeometryProcessor;
+    private final WalkLogImportWriter walkLogImportWriter;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxInFlightFiles;
+    private final long maxEntryBytes;
+    private final long maxInFlightBytes;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService parseExecutor;
+    private final Map<UUID, WalkImportJob> jobs = new ConcurrentHashMap<>();
+    private final Logger logger = LoggerFactory.getLogger(WalkImportService.class);
+
+    public WalkImportService(UserRepository userRepository,
+                             RouteGeometryProcessor routeGeometryProcessor,
+                             WalkLogImportWriter walkLogImportWriter,
+                             OutboxEventPublisher outboxEventPublisher,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${walkinggo.import.batch-size:200}") int batchSize,
+                             @Value("${walkinggo.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                             @Value("${walkinggo.import.parse-threads:0}") int parseThreads,
+                             @Value("${walkinggo.import.max-entry-bytes:52428800}") long maxEntryBytes,
+                             @Value("${walkinggo.import.max-in-flight-bytes:67108864}") long maxInFlightBytes) {
+        this.userRepository = userRepository;
+        this.routeGeometryProcessor = routeGeometryProcessor;
+        this.walkLogImportWriter = walkLogImportWriter;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        int parseThreadCount = parseThreads > 0 ? parseThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.maxInFlightFiles = parseThreadCount * 2;
+        this.maxEntryBytes = maxEntryBytes;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.jobExecutor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrentJobs * 4), namedThreads("walk-import-"));
+        this.parseExecutor = Executors.newFixedThreadPool(parseThreadCount, namedThreads("walk-import-parse-"));
+    }
+
+    public WalkImportJobResponse startImport(String username, MultipartFile file) throws IOException {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("가져올 파일이 비어 있습니다.");
+        }
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        boolean zip = filename.endsWith(".zip");
+        if (!zip && !filename.endsWith(".gpx")) {
+            throw new IllegalArgumentException("GPX 파일 또는 GPX 파일을 담은 ZIP 파일만 가져올 수 있습니다.");
+        }
+
+        purgeFinishedJobs();
+        Path uploadFile = Files.createTempFile("walk-import-", zip ? ".zip" : ".gpx");
+        file.transferTo(uploadFile);
+
+        WalkImportJob job = new WalkImportJob(user.getId());
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> runImport(job, user.getWeightKg(), uploadFile, zip));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(uploadFile);
+            throw new IllegalStateException("진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        logger.info("산책 기록 가져오기 작업 등록: 사용자='{}', 작업 ID={}, 파일='{}'", username, job.getId(), filename);
+        return WalkImportJobResponse.fromJob(job);
+    }
+
+    public WalkImportJobResponse getJob(String username, UUID jobId) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        WalkImportJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(user.getId())) {
+            throw new EntityNotFoundException("가져오기 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return WalkImportJobResponse.fromJob(job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        parseExecutor.shutdownNow();
+    }
+
+    private void runImport(WalkImportJob job, Double weightKg, Path uploadFile, boolean zip) {
+        job.setStartedAt(LocalDateTime.now());
+        job.setStatus(WalkImportJob.Status.RUNNING);
+        ImportRun run = new ImportRun(job, weightKg);
+        WalkImportJob.Status outcome = WalkImportJob.Status.FAILED;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(uploadFile))) {
+            if (zip) {
+                try (ZipInputStream zipIn = new ZipInputStream(in)) {
+                    ZipEntry entry;
+                    while ((entry = zipIn.getNextEntry()) != null) {
+                        if (entry.isDirectory() || !entry.getName().toLowerCase(Locale.ROOT).endsWith(".gpx")) {
+                            continue;
+                        }
+                        if (entry.getSize() > maxEntryBytes) {
+                            run.rejectOversized(entry.getName());
+                            continue;
+                        }
+                        run.reserve(entry.getSize() >= 0 ? entry.getSize() : maxEntryBytes);
+                        byte[] gpx = readEntry(zipIn);
+                        if (gpx == null) {
+                            run.rejectOversized(entry.getName());
+                            continue;
+                        }
+                        run.submit(gpx);
+                    }
+                }
+            } else {
+                run.collect(parseGpx(job.getUserId(), in, 0L));
+            }
+            run.finish();
+            outcome = WalkImportJob.Status.COMPLETED;
+            logger.info("산책 기록 가져오기 완료: 작업 ID={}, 저장 {}건, 중복 {}건, 실패 {}건",
+                    job.getId(), job.getImportedWalks().get(), job.getSkippedWalks().get(), job.getFailedTracks().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.setMessage("가져오기 작업이 중단되었습니다.");
+        } catch (Exception e) {
+            logger.error("산책 기록 가져오기 실패: 작업 ID={}", job.getId(), e);
+            job.setMessage(e instanceof IllegalArgumentException ? e.getMessage() : "가져오기 중 오류가 발생했습니다.");
+        } finally {
+            try {
+                run.publishImported();
+            } catch (Exception e) {
+                logger.error("가져오기 완료 이벤트 발행 실패: 작업 ID={}", job.getId(), e);
+            }
+            deleteQuietly(uploadFile);
+            job.setFinishedAt(LocalDateTime.now());
+            job.setStatus(outcome);
+        }
+    }
+
+    private ParsedGpx parseGpx(Long userId, InputStream gpx, long bufferedBytes) {
+        List<ImportedWalk> walks = new ArrayList<>();
+        AtomicInteger trackCount = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+        try {
+            GpxTrackReader.read(gpx, track -> {
+                trackCount.incrementAndGet();
+                ImportedWalk walk = toImportedWalk(userId, track);
+                if (walk != null) {
+                    walks.add(walk);
+                } else {
+                    failedCount.incrementAndGet();
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            failedCount.incrementAndGet();
+        }
+        return new ParsedGpx(walks, trackCount.get(), failedCount.get(), bufferedBytes);
+    }
+
+    private ImportedWalk toImportedWalk(Long userId, GpxTrackReader.GpxTrack track) {
+        TrackPoints points = track.points();
+        if (points.size() < 2 || !points.hasTimestamps()) {
+            return null;
+        }
+        LocalDateTime startTime = points.timeAt(0);
+        LocalDateTime endTime = points.timeAt(points.size() - 1);
+        if (startTime == null || endTime == null || !endTime.isAfter(startTime)) {
+            return null;
+        }
+        String routeCoordinatesJson = points.toJson();
+        String dedupeKey = WalkLogDedupeKeys.of(userId, startTime, endTime, routeCoordinatesJson);
+        TrackMetrics metrics = routeGeometryProcessor.process(points, startTime, endTime);
+        long durationSeconds = Duration.between(startTime, endTime).getSeconds();
+        return new ImportedWalk(track.name(), startTime, endTime, durationSeconds, metrics, routeCoordinatesJson, dedupeKey);
+    }
+
+    private byte[] readEntry(ZipInputStream zipIn) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int read;
+        while ((read = zipIn.read(buffer)) != -1) {
+            total += read;
+            if (total > maxEntryBytes) {
+                return null;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record ParsedGpx(List<ImportedWalk> walks, int trackCount, int failedCount, long bufferedBytes) {
+    }
+
+    private final class ImportRun {
+
+        private final WalkImportJob job;
+        private final Double weightKg;
+        private final CompletionService<ParsedGpx> completionService = new ExecutorCompletionService<>(parseExecutor);
+        private final List<ImportedWalk> pending = new ArrayList<>();
+        private int inFlight;
+        private long inFlightBytes;
+        private double importedDistanceMeters;
+
+        private ImportRun(WalkImportJob job, Double weightKg) {
+            this.job = job;
+            this.weightKg = weightKg;
+        }
+
+        void reserve(long bytes) throws InterruptedException, ExecutionException {
+            while (inFlight > 0 && (inFlight >= maxInFlightFiles || inFlightBytes + bytes > maxInFlightBytes)) {
+                collect(completionService.take());
+            }
+        }
+
+        void submit(byte[] gpx) throws InterruptedException, ExecutionException {
+            reserve(gpx.length);
+            completionService.submit(() -> parseGpx(job.getUserId(), new ByteArrayInputStream(gpx), gpx.length));
+            inFlight++;
+            inFlightBytes += gpx.length;
+        }
+
+        void rejectOversized(String entryName) {
+            job.getFailedTracks().incrementAndGet();
+            logger.warn("크기 제한을 넘는 GPX 파일을 건너뜁니다: 작업 ID={}, 파일='{}'", job.getId(), entryName);
+        }
+
+        void finish() throws InterruptedException, ExecutionException {
+            while (inFlight > 0) {
+                collect(completionService.take());
+            }
+            flush();
+        }
+
+        void publishImported() {
+            int imported = job.getImportedWalks().get();
+            if (imported == 0) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> outboxEventPublisher.publish(job.getUserId(),
+                    OutboxEventType.WALK_LOGS_IMPORTED,
+                    new WalkLogsImportedEvent(job.getUserId(), imported, importedDistanceMeters)));
+        }
+
+        private void collect(Future<ParsedGpx> future) throws InterruptedException, ExecutionException {
+            inFlight--;
+            collect(future.get());
+        }
+
+        void collect(ParsedGpx parsed) {
+            inFlightBytes -= parsed.bufferedBytes();
+            job.getParsedTracks().addAndGet(parsed.trackCount());
+            job.getFailedTracks().addAndGet(parsed.failedCount());
+            for (ImportedWalk walk : parsed.walks()) {
+                pending.add(walk);
+                if (pending.size() >= batchSize) {
+                    flush();
+                }
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            WalkLogImportWriter.BatchResult result = walkLogImportWriter.write(job.getUserId(), weightKg, pending);
+            job.getImportedWalks().addAndGet(result.imported());
+            job.getSkippedWalks().addAndGet(result.skipped());
+            importedDistanceMeters += result.distanceMeters();
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.entity.WalkLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class WalkLogExportReader {
+
+    private static final String SELECT_WALK_LOGS = "SELECT id, route_name, start_time, end_time, duration_seconds, " +
+            "distance_meters, moving_time_seconds, average_speed_mps, max_speed_mps, average_pace_seconds_per_km, " +
+            "pace_splits_json, dropped_point_count, steps, calories_burned, route_coordinates_json, route_archived, " +
+            "thumbnail_hash, created_at FROM walk_logs WHERE user_id = ? AND start_time >= ? ORDER BY start_time ASC, id ASC";
+
+    @FunctionalInterface
+    public interface WalkLogWriter {
+
+        void write(WalkLog walkLog, String routeJson) throws IOException;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate streamTransaction;
+    private final TransactionTemplate archiveTransaction;
+    private final WalkLogRouteArchiveService routeArchiveService;
+    private final int batchSize;
+
+    public WalkLogExportReader(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               WalkLogRouteArchiveService routeArchiveService,
+                               @Value("${walkinggo.export.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.streamTransaction = new TransactionTemplate(transactionManager);
+        this.streamTransaction.setReadOnly(true);
+        this.archiveTransaction = new TransactionTemplate(transactionManager);
+        this.archiveTransaction.setReadOnly(true);
+        this.archiveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.routeArchiveService = routeArchiveService;
+        this.batchSize = batchSize;
+    }
+
+    public void forEach(User owner, LocalDateTime since, WalkLogWriter writer) throws IOException {
+        List<WalkLog> batch = new ArrayList<>(batchSize);
+        try {
+            streamTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.query(SELECT_WALK_LOGS, (RowCallbackHandler) rs -> {
+                    batch.add(toWalkLog(rs, owner));
+                    if (batch.size() >= batchSize) {
+                        writeBatch(batch, writer);
+                    }
+                }, owner.getId(), since);
+                writeBatch(batch, writer);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeBatch(List<WalkLog> batch, WalkLogWriter writer) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<Long, String> archivedRoutes = archiveTransaction.execute(status -> routeArchiveService.archivedRouteJsonOf(batch));
+        try {
+            for (WalkLog walkLog : batch) {
+                writer.write(walkLog, walkLog.isRouteArchived() ? archivedRoutes.get(walkLog.getId()) : walkLog.getRouteCoordinatesJson());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        batch.clear();
+    }
+
+    private static WalkLog toWalkLog(ResultSet rs, User owner) throws SQLException {
+        return WalkLog.builder()
+                .id(rs.getLong("id"))
+                .user(owner)
+                .routeName(rs.getString("route_name"))
+                .startTime(rs.getObject("start_time", LocalDateTime.class))
+                .endTime(rs.getObject("end_time", LocalDateTime.class))
+                .durationSeconds(rs.getObject("duration_seconds", Long.class))
+                .distanceMeters(rs.getObject("distance_meters", Double.class))
+                .movingTimeSeconds(rs.getObject("moving_time_seconds", Long.class))
+                .averageSpeedMps(rs.getObject("average_speed_mps", Double.class))
+                .maxSpeedMps(rs.getObject("max_speed_mps", Double.class))
+                .averagePaceSecondsPerKm(rs.getObject("average_pace_seconds_per_km", Double.class))
+                .paceSplitsJson(rs.getString("pace_splits_json"))
+                .droppedPointCount(rs.getObject("dropped_point_count", Integer.class))
+                .steps(rs.getObject("steps", Integer.class))
+                .caloriesBurned(rs.getObject("calories_burned", Double.class))
+                .routeCoordinatesJson(rs.getString("route_coordinates_json"))
+                .routeArchived(rs.getBoolean("route_archived"))
+                .thumbnailHash(rs.getString("thumbnail_hash"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .build();
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.WalkLogExportFormat;
+import com.example.walkinggo.dto.WalkLogResponse;
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.repository.UserRepository;
+import com.example.walkinggo.util.geo.RouteGeometryParser;
+import com.example.walkinggo.util.geo.TrackPointSink;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class WalkLogExportService {
+
+    private static final int FLUSH_INTERVAL = 100;
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final UserRepository userRepository;
+    private final WalkLogExportReader exportReader;
+    private final ObjectMapper objectMapper;
+    private final Logger logger = LoggerFactory.getLogger(WalkLogExportService.class);
+
+    @Value("${walkinggo.export.async-timeout-ms:600000}")
+    private long asyncTimeoutMillis;
+
+    @Transactional(readOnly = true)
+    public Long resolveUserId(String username) {
+        return userRepository.findByUsername(username)
+                .map(User::getId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
+    }
+
+    public long export(Long userId, String username, LocalDateTime since, WalkLogExportFormat format, OutputStream out) throws IOException {
+        User owner = new User();
+        owner.setId(userId);
+        owner.setUsername(username);
+        LocalDateTime from = since != null ? since : EARLIEST;
+        long exported = format == WalkLogExportFormat.GPX
+                ? writeGpx(owner, from, out)
+                : writeNdjson(owner, from, out);
+        logger.info("산책 기록 내보내기 완료: 사용자 ID={}, 형식={}, {}건", userId, format, exported);
+        return exported;
+    }
+
+    public long getAsyncTimeoutMillis() {
+        return asyncTimeoutMillis;
+    }
+
+    private long writeNdjson(User owner, LocalDateTime from, OutputStream out) throws IOException {
+        long[] count = {0L};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            exportReader.forEach(owner, from, (walkLog, routeJson) -> {
+                objectMapper.writeValue(generator, new WalkLogResponse(walkLog, routeJson));
+                generator.writeRaw('\n');
+                if (++count[0] % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            });
+            generator.flush();
+        }
+        return count[0];
+    }
+
+    private long writeGpx(User owner, LocalDateTime from, OutputStream out) throws IOException {
+        long[] count = {0L};
+        try {
+            XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            xml.writeStartElement("gpx");
+            xml.writeDefaultNamespace("http://www.topografix.com/GPX/1/1");
+            xml.writeAttribute("version", "1.1");
+            xml.writeAttribute("creator", "walkinggo");
+            exportReader.forEach(owner, from, (walkLog, routeJson) -> {
+                try {
+                    writeGpxTrack(xml, walkLog, routeJson);
+                    if (++count[0] % FLUSH_INTERVAL == 0) {
+                        xml.flush();
+                        out.flush();
+                    }
+                } catch (XMLStreamException e) {
+                    throw new IOException("GPX 내보내기 중 오류가 발생했습니다.", e);
+                }
+            });
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("GPX 내보내기 중 오류가 발생했습니다.", e);
+        }
+        out.flush();
+        return count[0];
+    }
+
+    private void writeGpxTrack(XMLStreamWriter xml, WalkLog walkLog, String routeJson) throws XMLStreamException {
+        xml.writeStartElement("trk");
+        xml.writeStartElement("name");
+        xml.writeCharacters(walkLog.getRouteName() != null ? walkLog.getRouteName() : "walk-" + walkLog.getId());
+        xml.writeEndElement();
+        xml.writeStartElement("trkseg");
+        GpxPointWriter pointWriter = new GpxPointWriter(xml);
+        try {
+            RouteGeometryParser.parse(routeJson, pointWriter);
+        } catch (IllegalArgumentException e) {
+            logger.warn("경로 좌표를 해석할 수 없어 일부만 내보냅니다: 기록 ID={}", walkLog.getId());
+        } catch (GpxWriteException e) {
+            throw e.getCause();
+        }
+        xml.writeEndElement();
+        xml.writeEndElement();
+    }
+
+    private static final class GpxPointWriter implements TrackPointSink {
+
+        private final XMLStreamWriter xml;
+
+        private GpxPointWriter(XMLStreamWriter xml) {
+            this.xml = xml;
+        }
+
+        @Override
+        public void accept(double latitude, double longitude, long timestampMillis) {
+            try {
+                xml.writeStartElement("trkpt");
+                xml.writeAttribute("lat", Double.toString(latitude));
+                xml.writeAttribute("lon", Double.toString(longitude));
+                if (timestampMillis != NO_TIMESTAMP) {
+                    xml.writeStartElement("time");
+                    xml.writeCharacters(Instant.ofEpochMilli(timestampMillis).toString());
+                    xml.writeEndElement();
+                }
+                xml.writeEndElement();
+            } catch (XMLStreamException e) {
+                throw new GpxWriteException(e);
+            }
+        }
+    }
+
+    private static final class GpxWriteException extends RuntimeException {
+
+        private GpxWriteException(XMLStreamException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized XMLStreamException getCause() {
+            return (XMLStreamException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.repository.UserRepository;
+import com.example.walkinggo.repository.WalkLogRepository;
+import com.example.walkinggo.util.CalorieCalculator;
+import com.example.walkinggo.util.geo.TrackMetrics;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+class WalkLogImportWriter {
+
+    private final WalkLogRepository walkLogRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+
+    record BatchResult(int imported, int skipped, double distanceMeters) {
+    }
+
+    @Transactional
+    public BatchResult write(Long userId, Double weightKg, List<ImportedWalk> walks) {
+        User user = userRepository.getReferenceById(userId);
+        List<String> dedupeKeys = walks.stream().map(ImportedWalk::dedupeKey).toList();
+        Set<String> seenKeys = new HashSet<>(walkLogRepository.findExistingDedupeKeys(userId, dedupeKeys));
+
+        List<WalkLog> walkLogs = new ArrayList<>(walks.size());
+        double distance = 0.0;
+        for (ImportedWalk walk : walks) {
+            if (!seenKeys.add(walk.dedupeKey())) {
+                continue;
+            }
+            TrackMetrics metrics = walk.metrics();
+            long activeSeconds = metrics.getMovingTimeSeconds() > 0 ? metrics.getMovingTimeSeconds() : walk.durationSeconds();
+            walkLogs.add(WalkLog.builder()
+                    .user(user)
+                    .startTime(walk.startTime())
+                    .endTime(walk.endTime())
+                    .durationSeconds(walk.durationSeconds())
+                    .distanceMeters(metrics.getDistanceMeters())
+                    .caloriesBurned(CalorieCalculator.walkingCalories(weightKg, activeSeconds))
+                    .routeCoordinatesJson(walk.routeCoordinatesJson())
+                    .routeName(walk.routeName() != null && walk.routeName().length() <= 100 ? walk.routeName() : null)
+                    .movingTimeSeconds(metrics.getMovingTimeSeconds())
+                    .averageSpeedMps(metrics.getAverageSpeedMps())
+                    .maxSpeedMps(metrics.getMaxSpeedMps())
+                    .averagePaceSecondsPerKm(metrics.getAveragePaceSecondsPerKm())
+                    .paceSplitsJson(metrics.splitSecondsJson())
+                    .droppedPointCount(metrics.getDroppedPointCount())
+                    .dedupeKey(walk.dedupeKey())
+                    .build());
+            distance += metrics.getDistanceMeters();
+        }
+        walkLogRepository.saveAll(walkLogs);
+        entityManager.flush();
+        entityManager.clear();
+        return new BatchResult(walkLogs.size(), walks.size() - walkLogs.size(), distance);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.walkinggo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Component
+public class WalkLogPartitionMaintainer {
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p\\d{6}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final Logger logger = LoggerFactory.getLogger(WalkLogPartitionMaintainer.class);
+
+    public WalkLogPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                      @Value("${walkinggo.walk-log-partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePartitionsOnStartup() {
+        ensureUpcomingPartitions();
+    }
+
+    @Scheduled(cron = "${walkinggo.walk-log-partitions.cron:0 0 4 * * *}")
+    public synchronized void ensureUpcomingPartitions() {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'walk_logs' AND PARTITION_NAME IS NOT NULL",
+                String.class);
+        if (!partitions.contains(FUTURE_PARTITION)) {
+            logger.warn("walk_logs 에 {} 파티션이 없어 월별 파티션을 추가하지 않습니다: 현재 파티션={}", FUTURE_PARTITION, partitions);
+            return;
+        }
+
+        YearMonth latest = partitions.stream()
+                .filter(name -> MONTHLY_PARTITION.matcher(name).matches())
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .max(YearMonth::compareTo)
+                .orElse(null);
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        YearMonth month = latest == null ? YearMonth.now() : latest.plusMonths(1);
+
+        StringBuilder definitions = new StringBuilder();
+        List<String> added = new ArrayList<>();
+        for (; !month.isAfter(last); month = month.plusMonths(1)) {
+            String name = month.format(PARTITION_NAME);
+            LocalDate upperBound = month.plusMonths(1).atDay(1);
+            definitions.append("PARTITION ").append(name)
+                    .append(" VALUES LESS THAN ('").append(upperBound).append(" 00:00:00'), ");
+            added.add(name);
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+
+        String sql = "ALTER TABLE walk_logs REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                definitions + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))";
+        try {
+            jdbcTemplate.execute(sql);
+            logger.info("walk_logs 월별 파티션 추가 완료: {}", added);
+        } catch (DataAccessException e) {
+            logger.error("walk_logs 월별 파티션 추가 실패", e);
+        }
+    }
+}
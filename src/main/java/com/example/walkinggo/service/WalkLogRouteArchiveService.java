@@ -0,0 +1,154 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.entity.WalkLogRouteArchive;
+import com.example.walkinggo.repository.WalkLogRepository;
+import com.example.walkinggo.repository.WalkLogRouteArchiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class WalkLogRouteArchiveService {
+
+    private final WalkLogRepository walkLogRepository;
+    private final WalkLogRouteArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int archiveAfterMonths;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Logger logger = LoggerFactory.getLogger(WalkLogRouteArchiveService.class);
+
+    public WalkLogRouteArchiveService(WalkLogRepository walkLogRepository,
+                                      WalkLogRouteArchiveRepository archiveRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${walkinggo.route-archive.after-months:12}") int archiveAfterMonths,
+                                      @Value("${walkinggo.route-archive.batch-size:200}") int batchSize,
+                                      @Value("${walkinggo.route-archive.max-batches-per-run:500}") int maxBatchesPerRun) {
+        this.walkLogRepository = walkLogRepository;
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(cron = "${walkinggo.route-archive.cron:0 30 3 * * *}")
+    public void archiveColdRoutes() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(archiveAfterMonths).withDayOfMonth(1).toLocalDate().atStartOfDay();
+        long afterId = 0L;
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = walkLogRepository.findArchivableRouteIds(cutoff, afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(status -> archiveBatch(ids, status));
+            archived += count != null ? count : 0;
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (archived > 0) {
+            logger.info("{} 이전 산책 기록 경로 {}건을 압축 보관소로 이동", cutoff.toLocalDate(), archived);
+        }
+    }
+
+    private int archiveBatch(List<Long> ids, TransactionStatus status) {
+        List<WalkLogRouteArchive> archives = new ArrayList<>(ids.size());
+        for (Object[] row : walkLogRepository.lockArchivableRoutesByIds(ids)) {
+            byte[] json = ((String) row[1]).getBytes(StandardCharsets.UTF_8);
+            archives.add(WalkLogRouteArchive.builder()
+                    .walkLogId(((Number) row[0]).longValue())
+                    .routeGzip(gzip(json))
+                    .originalBytes(json.length)
+                    .build());
+        }
+        if (archives.isEmpty()) {
+            return 0;
+        }
+        archiveRepository.saveAll(archives);
+        int updated = walkLogRepository.markRoutesArchived(archives.stream().map(WalkLogRouteArchive::getWalkLogId).toList());
+        if (updated != archives.size()) {
+            status.setRollbackOnly();
+            logger.warn("보관 대상 경로가 처리 중에 변경되어 이번 배치를 되돌립니다: 대상 {}건, 변경 {}건", archives.size(), updated);
+            return 0;
+        }
+        return updated;
+    }
+
+    @Transactional(readOnly = true)
+    public String routeJsonOf(WalkLog walkLog) {
+        if (!walkLog.isRouteArchived()) {
+            return walkLog.getRouteCoordinatesJson();
+        }
+        return archiveRepository.findRouteGzipByWalkLogId(walkLog.getId())
+                .map(WalkLogRouteArchiveService::gunzip)
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, String> archivedRouteJsonOf(List<WalkLog> walkLogs) {
+        List<Long> archivedIds = walkLogs.stream()
+                .filter(WalkLog::isRouteArchived)
+                .map(WalkLog::getId)
+                .toList();
+        if (archivedIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, String> routes = new HashMap<>();
+        for (WalkLogRouteArchive archive : archiveRepository.findAllById(archivedIds)) {
+            routes.put(archive.getWalkLogId(), gunzip(archive.getRouteGzip()));
+        }
+        return routes;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restore(WalkLog walkLog) {
+        if (!walkLog.isRouteArchived()) {
+            return;
+        }
+        archiveRepository.findById(walkLog.getId()).ifPresent(archive -> {
+            walkLog.setRouteCoordinatesJson(gunzip(archive.getRouteGzip()));
+            archiveRepository.delete(archive);
+        });
+        walkLog.setRouteArchived(false);
+        logger.info("보관된 경로 복원: 기록 ID={}", walkLog.getId());
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String gunzip(byte[] bytes) {
+        try (GZIPInputStream gzipIn = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzipIn.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -6,15 +6,23 @@ import com.example.walkinggo.dto.RoutePublishRequest;
 import com.example.walkinggo.dto.WalkLogRequest;
 import com.example.walkinggo.dto.WalkLogResponse;
 import com.example.walkinggo.entity.User;
-import com.example.walkinggo.entity.UserGroup;
 import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.event.RoutePublishedEvent;
+import com.example.walkinggo.event.WalkLogCreatedEvent;
+import com.example.walkinggo.event.WalkLogsChangedEvent;
 import com.example.walkinggo.repository.UserRepository;
 import com.example.walkinggo.repository.WalkLogRepository;
+import com.example.walkinggo.util.CalorieCalculator;
+import com.example.walkinggo.util.WalkLogDedupeKeys;
+import com.example.walkinggo.util.geo.RouteGeometryProcessor;
+import com.example.walkinggo.util.geo.TrackMetrics;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
@@ -23,6 +31,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.Set;
 
@@ -33,73 +43,110 @@ public class WalkLogService {
 
     private final WalkLogRepository walkLogRepository;
     private final UserRepository userRepository;
+    private final RouteGeometryProcessor routeGeometryProcessor;
+    private final RecentUploadCache recentUploadCache;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ResourceVersionRegistry resourceVersionRegistry;
+    private final RouteThumbnailService routeThumbnailService;
+    private final RouteSimilarityIndex routeSimilarityIndex;
+    private final WalkLogRouteArchiveService routeArchiveService;
     private final Logger logger = LoggerFactory.getLogger(WalkLogService.class);
 
-    private static final double WALKING_MET = 3.5;
-
     @Transactional
-    public WalkLogResponse saveWalkLog(String username, WalkLogRequest request) {
+    public WalkLogResponse saveWalkLog(String username, WalkLogRequest request, String idempotencyKey) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
 
+        String dedupeKey = WalkLogDedupeKeys.of(user.getId(), idempotencyKey, request);
+        Optional<WalkLog> existingLog = findExistingUpload(user, dedupeKey, request.getStartTime());
+        if (existingLog.isPresent()) {
+            logger.info("중복 산책 기록 업로드 감지: 사용자='{}', 기존 기록 ID={}", username, existingLog.get().getId());
+            return WalkLogResponse.fromEntity(existingLog.get());
+        }
+
         long durationSeconds = request.getDurationSeconds() != null ?
                 request.getDurationSeconds() :
                 Duration.between(request.getStartTime(), request.getEndTime()).getSeconds();
 
+        TrackMetrics metrics = routeGeometryProcessor.process(
+                request.getRouteCoordinatesJson(), request.getStartTime(), request.getEndTime());
+
         double caloriesBurned = request.getCaloriesBurned() != null ?
                 request.getCaloriesBurned() :
-                calculateCalories(user, durationSeconds);
+                CalorieCalculator.walkingCalories(user.getWeightKg(),
+                        metrics.getMovingTimeSeconds() > 0 ? metrics.getMovingTimeSeconds() : durationSeconds);
 
+        Double distanceMeters = metrics.hasGeometry() ? metrics.getDistanceMeters() : request.getDistanceMeters();
 
-        WalkLog walkLog = WalkLog.builder()
+        WalkLog.WalkLogBuilder walkLogBuilder = WalkLog.builder()
                 .user(user)
                 .startTime(request.getStartTime())
                 .endTime(request.getEndTime())
                 .durationSeconds(durationSeconds)
-                .distanceMeters(request.getDistanceMeters())
+                .distanceMeters(distanceMeters)
+                .reportedDistanceMeters(request.getDistanceMeters())
                 .steps(request.getSteps())
                 .caloriesBurned(caloriesBurned)
+                .caloriesUserProvided(request.getCaloriesBurned() != null)
                 .routeCoordinatesJson(request.getRouteCoordinatesJson())
-                .build();
+                .dedupeKey(dedupeKey);
+
+        if (metrics.hasGeometry()) {
+            walkLogBuilder
+                    .movingTimeSeconds(metrics.getMovingTimeSeconds())
+                    .averageSpeedMps(metrics.getAverageSpeedMps())
+                    .maxSpeedMps(metrics.getMaxSpeedMps())
+                    .averagePaceSecondsPerKm(metrics.getAveragePaceSecondsPerKm())
+                    .paceSplitsJson(metrics.splitSecondsJson())
+                    .droppedPointCount(metrics.getDroppedPointCount());
+        }
+
+        WalkLog walkLog = walkLogBuilder.build();
 
         WalkLog savedLog = walkLogRepository.save(walkLog);
+        recentUploadCache.put(dedupeKey, savedLog.getId());
         logger.info("산책 기록 저장 완료: 사용자='{}', 기록 ID={}", username, savedLog.getId());
 
-        updateUserGroupsTotalDistance(user, savedLog.getDistanceMeters());
+        outboxEventPublisher.publish(user.getId(), OutboxEventType.WALK_LOG_CREATED,
+                new WalkLogCreatedEvent(savedLog.getId(), user.getId(), savedLog.getDistanceMeters(), savedLog.getStartTime()));
 
         return WalkLogResponse.fromEntity(savedLog);
     }
 
-    private void updateUserGroupsTotalDistance(User user, Double distance) {
-        if (distance == null || distance <= 0) {
-            return;
-        }
-        Set<UserGroup> userGroups = user.getGroups();
-        if (userGroups != null && !userGroups.isEmpty()) {
-            for (UserGroup group : userGroups) {
-                group.setTotalDistanceMeters(group.getTotalDistanceMeters() + distance);
-            }
-            logger.info("{} 사용자가 속한 {}개 그룹의 총 이동 거리 업데이트 완료.", user.getUsername(), userGroups.size());
-        }
+    @Transactional
+    public Optional<WalkLogResponse> findDuplicateUpload(String username, WalkLogRequest request, String idempotencyKey) {
+        return userRepository.findByUsername(username)
+                .flatMap(user -> findExistingUpload(user, WalkLogDedupeKeys.of(user.getId(), idempotencyKey, request), request.getStartTime()))
+                .map(WalkLogResponse::fromEntity);
     }
 
-    private double calculateCalories(User user, long durationSeconds) {
-        double weightKg = 70.0;
-
-        if (user.getWeightKg() != null ) {
-            weightKg = user.getWeightKg();
+    private Optional<WalkLog> findExistingUpload(User user, String dedupeKey, LocalDateTime startTime) {
+        Long cachedId = recentUploadCache.get(dedupeKey);
+        if (cachedId != null) {
+            Optional<WalkLog> cachedLog = walkLogRepository.findById(cachedId)
+                    .filter(walkLog -> dedupeKey.equals(walkLog.getDedupeKey()));
+            if (cachedLog.isPresent() && startTime.equals(cachedLog.get().getStartTime())) {
+                return cachedLog;
+            }
+            recentUploadCache.evict(dedupeKey);
         }
-
-        double durationHours = durationSeconds / 3600.0;
-        return WALKING_MET * weightKg * durationHours;
+        List<WalkLog> storedLogs = walkLogRepository.findByUserAndDedupeKey(user, dedupeKey);
+        if (storedLogs.isEmpty()) {
+            return Optional.empty();
+        }
+        WalkLog storedLog = storedLogs.stream()
+                .filter(walkLog -> startTime.equals(walkLog.getStartTime()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("같은 Idempotency-Key로 다른 산책 기록이 이미 저장되어 있습니다."));
+        recentUploadCache.put(dedupeKey, storedLog.getId());
+        return Optional.of(storedLog);
     }
 
     public List<WalkLogResponse> getWalkLogsByUser(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
-        return walkLogRepository.findByUserOrderByStartTimeDesc(user).stream()
-                .map(WalkLogResponse::fromEntity)
-                .collect(Collectors.toList());
+        return toResponses(walkLogRepository.findByUserOrderByStartTimeDesc(user));
     }
 
     public List<WalkLogResponse> getWalkLogsByUserAndDate(String username, LocalDate date) {
@@ -107,9 +154,7 @@ public class WalkLogService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username));
         LocalDateTime startOfDay = date.atStartOfDay();
         LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-        return walkLogRepository.findByUserAndDate(user, startOfDay, endOfDay).stream()
-                .map(WalkLogResponse::fromEntity)
-                .collect(Collectors.toList());
+        return toResponses(walkLogRepository.findByUserAndDate(user, startOfDay, endOfDay));
     }
 
     public MonthlyActivityResponse getMonthlyActivity(String username, int year, int month) {
@@ -132,24 +177,38 @@ public class WalkLogService {
 
     @Transactional
     public void publishRoute(Long walkLogId, RoutePublishRequest request, String username) {
-        WalkLog walkLog = walkLogRepository.findById(walkLogId)
+        WalkLog walkLog = walkLogRepository.findByIdForUpdate(walkLogId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 산책 기록을 찾을 수 없습니다."));
 
         if (!walkLog.getUser().getUsername().equals(username)) {
             throw new AccessDeniedException("자신의 산책 기록만 추천 경로로 등록할 수 있습니다.");
         }
 
+        boolean firstPublish = !walkLog.isPublicRoute();
         walkLog.setRouteName(request.getRouteName());
         walkLog.setRouteDescription(request.getRouteDescription());
         walkLog.setPublicRoute(true);
+        routeArchiveService.restore(walkLog);
+        routeThumbnailService.ensureThumbnail(walkLog);
+        routeSimilarityIndex.indexPublishedRoute(walkLog);
 
         walkLogRepository.save(walkLog);
+        if (firstPublish) {
+            outboxEventPublisher.publish(walkLog.getUser().getId(), OutboxEventType.ROUTE_PUBLISHED,
+                    new RoutePublishedEvent(walkLogId, walkLog.getUser().getId()));
+        }
+        applicationEventPublisher.publishEvent(new WalkLogsChangedEvent(List.of(walkLogId)));
+        resourceVersionRegistry.bump(ResourceVersionRegistry.RECOMMENDED_ROUTES);
     }
 
     @Transactional(readOnly = true)
     public List<RecommendedRouteResponse> getRecommendedRoutes() {
-        return walkLogRepository.findByIsPublicRouteTrueOrderByCreatedAtDesc().stream()
-                .map(RecommendedRouteResponse::new)
+        Set<Long> similarRouteIds = routeSimilarityIndex.nonRepresentativeIds();
+        List<WalkLog> routes = similarRouteIds.isEmpty()
+                ? walkLogRepository.findByIsPublicRouteTrueOrderByCreatedAtDesc()
+                : walkLogRepository.findPublicRoutesExcluding(similarRouteIds);
+        return routes.stream()
+                .map(walkLog -> new RecommendedRouteResponse(walkLog, routeSimilarityIndex.clusterSizeOf(walkLog.getId()) - 1))
                 .collect(Collectors.toList());
     }
 
@@ -162,6 +221,15 @@ public class WalkLogService {
             throw new AccessDeniedException("공개된 경로만 조회할 수 있습니다.");
         }
 
-        return WalkLogResponse.fromEntity(walkLog);
+        return new WalkLogResponse(walkLog, routeArchiveService.routeJsonOf(walkLog));
+    }
+
+    private List<WalkLogResponse> toResponses(List<WalkLog> walkLogs) {
+        Map<Long, String> archivedRoutes = routeArchiveService.archivedRouteJsonOf(walkLogs);
+        return walkLogs.stream()
+                .map(walkLog -> walkLog.isRouteArchived()
+                        ? new WalkLogResponse(walkLog, archivedRoutes.get(walkLog.getId()))
+                        : WalkLogResponse.fromEntity(walkLog))
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.walkinggo.util;
+
+public final class CalorieCalculator {
+
+    private static final double WALKING_MET = 3.5;
+    private static final double DEFAULT_WEIGHT_KG = 70.0;
+
+    private CalorieCalculator() {
+    }
+
+    public static double walkingCalories(Double weightKg, long durationSeconds) {
+        return caloriesPerSecond(weightKg) * durationSeconds;
+    }
+
+    public static double caloriesPerSecond(Double weightKg) {
+        double weight = weightKg != null ? weightKg : DEFAULT_WEIGHT_KG;
+        return WALKING_MET * weight / 3600.0;
+    }
+}
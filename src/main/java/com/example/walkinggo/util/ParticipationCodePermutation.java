@@ -0,0 +1,62 @@
+package com.example.walkinggo.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class ParticipationCodePermutation {
+
+    public static final int CODE_LENGTH = 8;
+    public static final long CODE_SPACE = 100_000_000L;
+
+    private static final int HALF_BITS = 14;
+    private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    private final int[] roundKeys = new int[ROUNDS];
+
+    public ParticipationCodePermutation(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(("participation-code:" + secret).getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            for (int i = 0; i < ROUNDS; i++) {
+                roundKeys[i] = buffer.getInt();
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String codeOf(long sequence) {
+        if (sequence < 0 || sequence >= CODE_SPACE) {
+            throw new IllegalArgumentException("참여 코드 시퀀스 범위를 벗어났습니다: " + sequence);
+        }
+        long value = sequence;
+        do {
+            value = encrypt((int) value);
+        } while (value >= CODE_SPACE);
+        String digits = Long.toString(value);
+        return "0".repeat(CODE_LENGTH - digits.length()) + digits;
+    }
+
+    private long encrypt(int value) {
+        int left = (value >>> HALF_BITS) & HALF_MASK;
+        int right = value & HALF_MASK;
+        for (int roundKey : roundKeys) {
+            int next = left ^ round(right, roundKey);
+            left = right;
+            right = next;
+        }
+        return ((long) left << HALF_BITS) | right;
+    }
+
+    private static int round(int half, int roundKey) {
+        int mixed = (half ^ roundKey) * 0x9E3779B1;
+        mixed ^= mixed >>> 15;
+        mixed *= 0x85EBCA6B;
+        mixed ^= mixed >>> 13;
+        return mixed & HALF_MASK;
+    }
+}
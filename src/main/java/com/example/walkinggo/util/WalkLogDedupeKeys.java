@@ -0,0 +1,55 @@
+package com.example.walkinggo.util;
+
+import com.example.walkinggo.dto.WalkLogRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+public final class WalkLogDedupeKeys {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final String CONSTRAINT_NAME_PREFIX = "uk_walk_logs_user_dedupe_key";
+
+    private WalkLogDedupeKeys() {
+    }
+
+    public static boolean isDedupeKeyViolation(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.contains(CONSTRAINT_NAME_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static String of(Long userId, String idempotencyKey, WalkLogRequest request) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+                throw new IllegalArgumentException("Idempotency-Key는 255자 이하여야 합니다.");
+            }
+            return sha256Hex("key:" + userId + ":" + idempotencyKey.trim());
+        }
+        return of(userId, request.getStartTime(), request.getEndTime(), request.getRouteCoordinatesJson());
+    }
+
+    public static String of(Long userId, LocalDateTime startTime, LocalDateTime endTime, String routeCoordinatesJson) {
+        String geometry = routeCoordinatesJson != null ? routeCoordinatesJson : "";
+        return sha256Hex("content:" + userId
+                + "|" + startTime
+                + "|" + endTime
+                + "|" + sha256Hex(geometry));
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
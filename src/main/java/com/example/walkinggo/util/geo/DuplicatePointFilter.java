@@ -0,0 +1,36 @@
+package com.example.walkinggo.util.geo;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(100)
+public class DuplicatePointFilter implements TrackFilter {
+
+    @Override
+    public int apply(TrackPoints points) {
+        int n = points.size();
+        if (n < 2) {
+            return 0;
+        }
+        double[] lats = points.latitudes();
+        double[] lngs = points.longitudes();
+        long[] times = points.timestamps();
+        boolean timed = points.hasTimestamps();
+
+        int kept = 1;
+        for (int i = 1; i < n; i++) {
+            int last = kept - 1;
+            boolean samePosition = lats[i] == lats[last] && lngs[i] == lngs[last];
+            boolean staleTimestamp = timed && times[i] <= times[last]
+                    && !points.isSynthetic(i) && !points.isSynthetic(last);
+            if (samePosition || staleTimestamp) {
+                continue;
+            }
+            points.move(i, kept);
+            kept++;
+        }
+        points.truncate(kept);
+        return n - kept;
+    }
+}
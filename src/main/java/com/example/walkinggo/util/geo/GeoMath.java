@@ -0,0 +1,23 @@
+package com.example.walkinggo.util.geo;
+
+public final class GeoMath {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private GeoMath() {
+    }
+
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double cosLat1 = Math.cos(Math.toRadians(lat1));
+        double cosLat2 = Math.cos(Math.toRadians(lat2));
+        return haversineMeters(lat1, lng1, cosLat1, lat2, lng2, cosLat2);
+    }
+
+    public static double haversineMeters(double lat1, double lng1, double cosLat1,
+                                         double lat2, double lng2, double cosLat2) {
+        double sinHalfDLat = Math.sin(Math.toRadians(lat2 - lat1) * 0.5);
+        double sinHalfDLng = Math.sin(Math.toRadians(lng2 - lng1) * 0.5);
+        double a = sinHalfDLat * sinHalfDLat + cosLat1 * cosLat2 * sinHalfDLng * sinHalfDLng;
+        return 2.0 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.walkinggo.util.geo;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+public final class GpxTrackReader {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private GpxTrackReader() {
+    }
+
+    public record GpxTrack(String name, TrackPoints points) {
+    }
+
+    public static int read(InputStream in, Consumer<GpxTrack> consumer) {
+        int trackCount = 0;
+        XMLStreamReader xml = null;
+        try {
+            xml = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            String trackName = null;
+            TrackPoints points = null;
+            double latitude = Double.NaN;
+            double longitude = Double.NaN;
+            long timestamp = TrackPointSink.NO_TIMESTAMP;
+            boolean inTrackPoint = false;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "trk" -> {
+                            trackName = null;
+                            points = new TrackPoints();
+                        }
+                        case "name" -> {
+                            if (points != null && !inTrackPoint && points.size() == 0) {
+                                trackName = xml.getElementText().trim();
+                            }
+                        }
+                        case "trkpt" -> {
+                            inTrackPoint = true;
+                            latitude = parseCoordinate(xml.getAttributeValue(null, "lat"));
+                            longitude = parseCoordinate(xml.getAttributeValue(null, "lon"));
+                            timestamp = TrackPointSink.NO_TIMESTAMP;
+                        }
+                        case "time" -> {
+                            if (inTrackPoint) {
+                                timestamp = parseTime(xml.getElementText().trim());
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "trkpt" -> {
+                            inTrackPoint = false;
+                            if (points != null && !Double.isNaN(latitude) && !Double.isNaN(longitude)) {
+                                points.accept(latitude, longitude, timestamp);
+                            }
+                        }
+                        case "trk" -> {
+                            if (points != null && points.size() > 0) {
+                                consumer.accept(new GpxTrack(trackName, points));
+                                trackCount++;
+                            }
+                            points = null;
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            }
+            return trackCount;
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("GPX 파일 형식이 올바르지 않습니다.", e);
+        } finally {
+            closeQuietly(xml);
+        }
+    }
+
+    private static double parseCoordinate(String value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static long parseTime(String value) {
+        try {
+            return OffsetDateTime.parse(value).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return TrackPointSink.NO_TIMESTAMP;
+        }
+    }
+
+    private static void closeQuietly(XMLStreamReader xml) {
+        if (xml == null) {
+            return;
+        }
+        try {
+            xml.close();
+        } catch (XMLStreamException ignored) {
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.walkinggo.util.geo;
+
+public final class HeatmapRasterizer {
+
+    public static final int MIN_ZOOM = 8;
+    public static final int MAX_ZOOM = 16;
+    public static final int CELL_SHIFT = 5;
+    public static final int CELLS_PER_TILE = 1 << CELL_SHIFT;
+
+    private static final double MAX_LATITUDE = 85.05112878;
+    private static final int ZOOM_BITS_SHIFT = 48;
+    private static final int X_BITS_SHIFT = 24;
+    private static final long COORDINATE_MASK = (1L << 24) - 1;
+
+    private HeatmapRasterizer() {
+    }
+
+    public static long[] rasterize(TrackPoints points) {
+        int count = points.size();
+        LongHashSet cells = new LongHashSet(count * 2);
+        if (count == 0) {
+            return cells.toSortedArray();
+        }
+        double[] latitudes = points.latitudes();
+        double[] longitudes = points.longitudes();
+        double[] worldX = new double[count];
+        double[] worldY = new double[count];
+        for (int i = 0; i < count; i++) {
+            worldX[i] = (longitudes[i] + 180.0) / 360.0;
+            double latitude = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitudes[i])));
+            worldY[i] = (1.0 - Math.log(Math.tan(latitude) + 1.0 / Math.cos(latitude)) / Math.PI) / 2.0;
+        }
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            int gridSize = 1 << (zoom + CELL_SHIFT);
+            int previousX = toCell(worldX[0], gridSize);
+            int previousY = toCell(worldY[0], gridSize);
+            cells.add(key(zoom, previousX, previousY));
+            for (int i = 1; i < count; i++) {
+                int cellX = toCell(worldX[i], gridSize);
+                int cellY = toCell(worldY[i], gridSize);
+                if (cellX != previousX || cellY != previousY) {
+                    drawLine(cells, zoom, previousX, previousY, cellX, cellY);
+                    previousX = cellX;
+                    previousY = cellY;
+                }
+            }
+        }
+        return cells.toSortedArray();
+    }
+
+    public static int zoomOf(long key) {
+        return (int) (key >>> ZOOM_BITS_SHIFT);
+    }
+
+    public static int cellXOf(long key) {
+        return (int) ((key >>> X_BITS_SHIFT) & COORDINATE_MASK);
+    }
+
+    public static int cellYOf(long key) {
+        return (int) (key & COORDINATE_MASK);
+    }
+
+    private static void drawLine(LongHashSet cells, int zoom, int x0, int y0, int x1, int y1) {
+        int dx = Math.abs(x1 - x0);
+        int dy = -Math.abs(y1 - y0);
+        int stepX = x0 < x1 ? 1 : -1;
+        int stepY = y0 < y1 ? 1 : -1;
+        int error = dx + dy;
+        int x = x0;
+        int y = y0;
+        while (true) {
+            cells.add(key(zoom, x, y));
+            if (x == x1 && y == y1) {
+                return;
+            }
+            int doubledError = 2 * error;
+            if (doubledError >= dy) {
+                error += dy;
+                x += stepX;
+            }
+            if (doubledError <= dx) {
+                error += dx;
+                y += stepY;
+            }
+        }
+    }
+
+    private static int toCell(double worldCoordinate, int gridSize) {
+        int cell = (int) Math.floor(worldCoordinate * gridSize);
+        return Math.max(0, Math.min(gridSize - 1, cell));
+    }
+
+    private static long key(int zoom, int cellX, int cellY) {
+        return ((long) zoom << ZOOM_BITS_SHIFT) | ((long) cellX << X_BITS_SHIFT) | cellY;
+    }
+}
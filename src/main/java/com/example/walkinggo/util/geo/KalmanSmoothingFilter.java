@@ -0,0 +1,49 @@
+package com.example.walkinggo.util.geo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(300)
+@ConditionalOnProperty(name = "walkinggo.track.kalman-smoothing.enabled", havingValue = "true")
+public class KalmanSmoothingFilter implements TrackFilter {
+
+    private final double processNoiseMps;
+    private final double measurementAccuracyMeters;
+
+    public KalmanSmoothingFilter(@Value("${walkinggo.track.kalman-smoothing.process-noise-mps:3.0}") double processNoiseMps,
+                                 @Value("${walkinggo.track.kalman-smoothing.accuracy-meters:10.0}") double measurementAccuracyMeters) {
+        this.processNoiseMps = processNoiseMps;
+        this.measurementAccuracyMeters = measurementAccuracyMeters;
+    }
+
+    @Override
+    public int apply(TrackPoints points) {
+        int n = points.size();
+        if (n < 3 || !points.hasTimestamps()) {
+            return 0;
+        }
+        double[] lats = points.latitudes();
+        double[] lngs = points.longitudes();
+        long[] times = points.timestamps();
+
+        double measurementVariance = measurementAccuracyMeters * measurementAccuracyMeters;
+        double processVariance = processNoiseMps * processNoiseMps;
+        double lat = lats[0];
+        double lng = lngs[0];
+        double variance = measurementVariance;
+        for (int i = 1; i < n; i++) {
+            double dt = (times[i] - times[i - 1]) / 1000.0;
+            variance += dt * processVariance;
+            double gain = variance / (variance + measurementVariance);
+            lat += gain * (lats[i] - lat);
+            lng += gain * (lngs[i] - lng);
+            variance = (1.0 - gain) * variance;
+            lats[i] = lat;
+            lngs[i] = lng;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.walkinggo.util.geo;
+
+import java.util.Arrays;
+
+final class LongHashSet {
+
+    private long[] slots;
+    private int size;
+
+    LongHashSet(int expectedSize) {
+        slots = new long[tableSizeFor(Math.max(expectedSize, 16))];
+    }
+
+    boolean add(long value) {
+        if (value == 0L) {
+            throw new IllegalArgumentException("0 cannot be stored");
+        }
+        if ((size + 1) * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        if (insert(slots, value)) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long[] toSortedArray() {
+        long[] values = new long[size];
+        int index = 0;
+        for (long slot : slots) {
+            if (slot != 0L) {
+                values[index++] = slot;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private void rehash(int capacity) {
+        long[] rehashed = new long[capacity];
+        for (long slot : slots) {
+            if (slot != 0L) {
+                insert(rehashed, slot);
+            }
+        }
+        slots = rehashed;
+    }
+
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != 0L) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        return true;
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        return Integer.highestOneBit(expectedSize * 2 - 1) << 1;
+    }
+}
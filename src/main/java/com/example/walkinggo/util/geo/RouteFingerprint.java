@@ -0,0 +1,122 @@
+package com.example.walkinggo.util.geo;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public final class RouteFingerprint {
+
+    public static final int SIGNATURE_LENGTH = 32;
+    public static final int BANDS = 8;
+    public static final int ROWS_PER_BAND = SIGNATURE_LENGTH / BANDS;
+
+    private static final double CELL_METERS = 50.0;
+    private static final double CELL_DEGREES = CELL_METERS / 111_320.0;
+    private static final long[] SEEDS = new long[SIGNATURE_LENGTH];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            SEEDS[i] = seed;
+        }
+    }
+
+    private RouteFingerprint() {
+    }
+
+    public static int[] compute(TrackPoints points) {
+        long[] cells = cellsOf(points);
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long cell : cells) {
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = (int) (mix(cell ^ SEEDS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] a, int[] b) {
+        int matches = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / SIGNATURE_LENGTH;
+    }
+
+    public static long bandKey(int[] signature, int band) {
+        long hash = band;
+        for (int row = band * ROWS_PER_BAND; row < (band + 1) * ROWS_PER_BAND; row++) {
+            hash = mix(hash * 31 + signature[row]);
+        }
+        return hash;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(SIGNATURE_LENGTH * Integer.BYTES);
+        for (int value : signature) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SIGNATURE_LENGTH * Integer.BYTES) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[SIGNATURE_LENGTH];
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            signature[i] = buffer.getInt();
+        }
+        return signature;
+    }
+
+    private static long[] cellsOf(TrackPoints points) {
+        double[] latitudes = points.latitudes();
+        double[] longitudes = points.longitudes();
+        LongHashSet cells = new LongHashSet(points.size());
+        int previousRow = 0;
+        int previousColumn = 0;
+        for (int i = 0; i < points.size(); i++) {
+            int row = (int) Math.floor(latitudes[i] / CELL_DEGREES);
+            double rowLatitude = Math.toRadians((row + 0.5) * CELL_DEGREES);
+            int column = (int) Math.floor(longitudes[i] * Math.cos(rowLatitude) / CELL_DEGREES);
+            if (i == 0) {
+                cells.add(cellKey(row, column));
+            } else if (row != previousRow || column != previousColumn) {
+                fillBetween(cells, previousRow, previousColumn, row, column);
+            }
+            previousRow = row;
+            previousColumn = column;
+        }
+        return cells.toSortedArray();
+    }
+
+    private static void fillBetween(LongHashSet cells, int row0, int column0, int row1, int column1) {
+        int steps = Math.max(Math.abs(row1 - row0), Math.abs(column1 - column0));
+        for (int step = 1; step <= steps; step++) {
+            int row = row0 + Math.round((float) (row1 - row0) * step / steps);
+            int column = column0 + Math.round((float) (column1 - column0) * step / steps);
+            cells.add(cellKey(row, column));
+        }
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) ^ (column & 0xFFFFFFFFL) ^ 0x8000_0000_0000_0001L;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.walkinggo.util.geo;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+public final class RouteGeometryParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final long EPOCH_SECONDS_THRESHOLD = 100_000_000_000L;
+
+    private RouteGeometryParser() {
+    }
+
+    public static int parse(String json, TrackPointSink sink) {
+        if (json == null || json.isBlank()) {
+            return 0;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = advanceToPointArray(parser);
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw invalidFormat();
+            }
+            int count = 0;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    readObjectPoint(parser, sink);
+                } else if (token == JsonToken.START_ARRAY) {
+                    readArrayPoint(parser, sink);
+                } else {
+                    throw invalidFormat();
+                }
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("경로 좌표 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private static JsonToken advanceToPointArray(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY && ("coordinates".equals(name) || "points".equals(name))) {
+                return token;
+            }
+            parser.skipChildren();
+        }
+        return token;
+    }
+
+    private static void readObjectPoint(JsonParser parser, TrackPointSink sink) throws IOException {
+        double latitude = Double.NaN;
+        double longitude = Double.NaN;
+        long timestamp = TrackPointSink.NO_TIMESTAMP;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "lat", "latitude" -> latitude = parser.getDoubleValue();
+                case "lng", "lon", "longitude" -> longitude = parser.getDoubleValue();
+                case "timestamp", "time", "t" -> timestamp = readTimestamp(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        emit(sink, latitude, longitude, timestamp);
+    }
+
+    private static void readArrayPoint(JsonParser parser, TrackPointSink sink) throws IOException {
+        double longitude = Double.NaN;
+        double latitude = Double.NaN;
+        long timestamp = TrackPointSink.NO_TIMESTAMP;
+        int index = 0;
+        JsonToken value;
+        while ((value = parser.nextToken()) != JsonToken.END_ARRAY) {
+            switch (index++) {
+                case 0 -> longitude = parser.getDoubleValue();
+                case 1 -> latitude = parser.getDoubleValue();
+                case 2 -> timestamp = readTimestamp(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        emit(sink, latitude, longitude, timestamp);
+    }
+
+    private static long readTimestamp(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT) {
+            long raw = parser.getLongValue();
+            return raw < EPOCH_SECONDS_THRESHOLD ? raw * 1000L : raw;
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            String text = parser.getText();
+            try {
+                return Instant.parse(text).toEpochMilli();
+            } catch (DateTimeParseException e) {
+                try {
+                    return LocalDateTime.parse(text).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                } catch (DateTimeParseException ignored) {
+                    return TrackPointSink.NO_TIMESTAMP;
+                }
+            }
+        }
+        parser.skipChildren();
+        return TrackPointSink.NO_TIMESTAMP;
+    }
+
+    private static void emit(TrackPointSink sink, double latitude, double longitude, long timestamp) {
+        if (Double.isNaN(latitude) || Double.isNaN(longitude)
+                || latitude < -90.0 || latitude > 90.0 || longitude < -180.0 || longitude > 180.0) {
+            throw invalidFormat();
+        }
+        sink.accept(latitude, longitude, timestamp);
+    }
+
+    private static IllegalArgumentException invalidFormat() {
+        return new IllegalArgumentException("경로 좌표 형식이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.walkinggo.util.geo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class RouteGeometryProcessor {
+
+    private final TrackCleaningPipeline trackCleaningPipeline;
+
+    public TrackMetrics process(String routeCoordinatesJson, LocalDateTime startTime, LocalDateTime endTime) {
+        if (routeCoordinatesJson == null || routeCoordinatesJson.isBlank()) {
+            return TrackMetrics.EMPTY;
+        }
+        return process(TrackPoints.parse(routeCoordinatesJson), startTime, endTime);
+    }
+
+    public TrackMetrics process(TrackPoints points, LocalDateTime startTime, LocalDateTime endTime) {
+        points.interpolateMissingTimestamps(startTime, endTime);
+        int droppedPointCount = trackCleaningPipeline.clean(points);
+        return TrackMetricsCalculator.compute(points, droppedPointCount);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.walkinggo.util.geo;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public final class RouteThumbnailRenderer {
+
+    private static final Color BACKGROUND = new Color(0xF4, 0xF6, 0xF3);
+    private static final Color ROUTE = new Color(0x2E, 0x9E, 0x5B);
+    private static final Color START = new Color(0x1E, 0x6F, 0xD9);
+    private static final Color END = new Color(0xE0, 0x4F, 0x3A);
+    private static final double SIMPLIFY_TOLERANCE_PX = 0.75;
+
+    private RouteThumbnailRenderer() {
+    }
+
+    public static byte[] renderPng(TrackPoints points, int size) {
+        double[] x = new double[points.size()];
+        double[] y = new double[points.size()];
+        project(points, size, x, y);
+        boolean[] keep = simplify(x, y, SIMPLIFY_TOLERANCE_PX);
+
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, size, size);
+
+            float strokeWidth = Math.max(2f, size / 64f);
+            Path2D.Double path = new Path2D.Double(Path2D.WIND_NON_ZERO, x.length);
+            path.moveTo(x[0], y[0]);
+            for (int i = 1; i < x.length; i++) {
+                if (keep[i]) {
+                    path.lineTo(x[i], y[i]);
+                }
+            }
+            g.setColor(ROUTE);
+            g.setStroke(new BasicStroke(strokeWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g.draw(path);
+
+            double marker = strokeWidth * 2.5;
+            g.setColor(END);
+            g.fill(new Ellipse2D.Double(x[x.length - 1] - marker / 2, y[y.length - 1] - marker / 2, marker, marker));
+            g.setColor(START);
+            g.fill(new Ellipse2D.Double(x[0] - marker / 2, y[0] - marker / 2, marker, marker));
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 * 1024);
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void project(TrackPoints points, int size, double[] x, double[] y) {
+        double[] latitudes = points.latitudes();
+        double[] longitudes = points.longitudes();
+        int count = points.size();
+        double minLat = Double.MAX_VALUE;
+        double maxLat = -Double.MAX_VALUE;
+        double minLng = Double.MAX_VALUE;
+        double maxLng = -Double.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            minLat = Math.min(minLat, latitudes[i]);
+            maxLat = Math.max(maxLat, latitudes[i]);
+            minLng = Math.min(minLng, longitudes[i]);
+            maxLng = Math.max(maxLng, longitudes[i]);
+        }
+        double lngScale = Math.cos(Math.toRadians((minLat + maxLat) / 2));
+        double width = (maxLng - minLng) * lngScale;
+        double height = maxLat - minLat;
+        double padding = size * 0.1;
+        double drawable = size - 2 * padding;
+        double extent = Math.max(width, height);
+        double scale = extent > 0 ? drawable / extent : 0;
+        double offsetX = padding + (drawable - width * scale) / 2;
+        double offsetY = padding + (drawable - height * scale) / 2;
+        for (int i = 0; i < count; i++) {
+            x[i] = offsetX + (longitudes[i] - minLng) * lngScale * scale;
+            y[i] = offsetY + (maxLat - latitudes[i]) * scale;
+        }
+    }
+
+    static boolean[] simplify(double[] x, double[] y, double tolerance) {
+        int count = x.length;
+        boolean[] keep = new boolean[count];
+        keep[0] = true;
+        keep[count - 1] = true;
+        int[] stack = new int[2 * Math.max(count, 2)];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = count - 1;
+        double toleranceSquared = tolerance * tolerance;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+            double dx = x[last] - x[first];
+            double dy = y[last] - y[first];
+            double lengthSquared = dx * dx + dy * dy;
+            double maxDistance = -1;
+            int farthest = -1;
+            for (int i = first + 1; i < last; i++) {
+                double px = x[i] - x[first];
+                double py = y[i] - y[first];
+                double distance;
+                if (lengthSquared == 0) {
+                    distance = px * px + py * py;
+                } else {
+                    double cross = px * dy - py * dx;
+                    distance = cross * cross / lengthSquared;
+                }
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+            if (farthest >= 0 && maxDistance > toleranceSquared) {
+                keep[farthest] = true;
+                stack[top++] = first;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = last;
+            }
+        }
+        return keep;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.walkinggo.util.geo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+@Component
+@Order(200)
+public class SpeedOutlierFilter implements TrackFilter {
+
+    private static final int MAX_CONSECUTIVE_REJECTIONS = 5;
+    private static final double MIN_JUMP_METERS = 100.0;
+    private static final double JUMP_TO_MEDIAN_STEP_RATIO = 10.0;
+
+    private final double maxSpeedMps;
+
+    public SpeedOutlierFilter(@Value("${walkinggo.track.max-speed-mps:7.0}") double maxSpeedMps) {
+        this.maxSpeedMps = maxSpeedMps;
+    }
+
+    @Override
+    public int apply(TrackPoints points) {
+        int n = points.size();
+        if (n < 2) {
+            return 0;
+        }
+        double[] lats = points.latitudes();
+        double[] lngs = points.longitudes();
+        boolean timed = points.hasTimestamps();
+        long[] times = timed ? points.timestamps() : null;
+
+        int kept = 1;
+        int rejectedInRow = 0;
+        double jumpMeters = Double.NaN;
+        double lastCos = Math.cos(Math.toRadians(lats[0]));
+        for (int i = 1; i < n; i++) {
+            int last = kept - 1;
+            double cos = Math.cos(Math.toRadians(lats[i]));
+            double distance = GeoMath.haversineMeters(lats[last], lngs[last], lastCos, lats[i], lngs[i], cos);
+            boolean outlier;
+            if (timed && !points.isSynthetic(i) && !points.isSynthetic(last)) {
+                double dt = (times[i] - times[last]) / 1000.0;
+                outlier = dt <= 0.0 || distance / dt > maxSpeedMps;
+            } else {
+                if (Double.isNaN(jumpMeters)) {
+                    jumpMeters = jumpThresholdMeters(lats, lngs, n);
+                }
+                outlier = distance > jumpMeters && returnsNearLast(lats, lngs, last, lastCos, i, n, distance);
+            }
+            if (outlier && rejectedInRow < MAX_CONSECUTIVE_REJECTIONS) {
+                rejectedInRow++;
+                continue;
+            }
+            rejectedInRow = 0;
+            points.move(i, kept);
+            lastCos = cos;
+            kept++;
+        }
+        points.truncate(kept);
+        return n - kept;
+    }
+
+    private static double jumpThresholdMeters(double[] lats, double[] lngs, int n) {
+        double[] steps = new double[n - 1];
+        for (int i = 1; i < n; i++) {
+            steps[i - 1] = GeoMath.haversineMeters(lats[i - 1], lngs[i - 1], lats[i], lngs[i]);
+        }
+        Arrays.sort(steps);
+        return Math.max(MIN_JUMP_METERS, steps[steps.length / 2] * JUMP_TO_MEDIAN_STEP_RATIO);
+    }
+
+    private static boolean returnsNearLast(double[] lats, double[] lngs, int last, double lastCos,
+                                           int i, int n, double distance) {
+        int end = Math.min(n - 1, i + MAX_CONSECUTIVE_REJECTIONS);
+        for (int j = i + 1; j <= end; j++) {
+            double back = GeoMath.haversineMeters(lats[last], lngs[last], lastCos,
+                    lats[j], lngs[j], Math.cos(Math.toRadians(lats[j])));
+            if (back < distance / 2) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
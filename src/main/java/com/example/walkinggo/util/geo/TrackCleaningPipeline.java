@@ -0,0 +1,21 @@
+package com.example.walkinggo.util.geo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TrackCleaningPipeline {
+
+    private final List<TrackFilter> filters;
+
+    public int clean(TrackPoints points) {
+        int dropped = 0;
+        for (TrackFilter filter : filters) {
+            dropped += filter.apply(points);
+        }
+        return dropped;
+    }
+}
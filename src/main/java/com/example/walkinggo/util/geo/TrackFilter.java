@@ -0,0 +1,6 @@
+package com.example.walkinggo.util.geo;
+
+public interface TrackFilter {
+
+    int apply(TrackPoints points);
+}
@@ -0,0 +1,35 @@
+package com.example.walkinggo.util.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TrackMetrics {
+
+    public static final TrackMetrics EMPTY = new TrackMetrics(0, 0, 0.0, 0L, 0.0, 0.0, null, new int[0]);
+
+    private final int pointCount;
+    private final int droppedPointCount;
+    private final double distanceMeters;
+    private final long movingTimeSeconds;
+    private final double averageSpeedMps;
+    private final double maxSpeedMps;
+    private final Double averagePaceSecondsPerKm;
+    private final int[] splitSeconds;
+
+    public boolean hasGeometry() {
+        return pointCount >= 2;
+    }
+
+    public String splitSecondsJson() {
+        StringBuilder json = new StringBuilder(splitSeconds.length * 5 + 2).append('[');
+        for (int i = 0; i < splitSeconds.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(splitSeconds[i]);
+        }
+        return json.append(']').toString();
+    }
+}
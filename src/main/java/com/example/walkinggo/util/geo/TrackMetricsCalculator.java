@@ -0,0 +1,82 @@
+package com.example.walkinggo.util.geo;
+
+import java.util.Arrays;
+
+public final class TrackMetricsCalculator {
+
+    private static final double SPLIT_METERS = 1000.0;
+    private static final double MIN_MOVING_SPEED_MPS = 0.3;
+    private static final double MAX_MOVING_GAP_SECONDS = 60.0;
+
+    private TrackMetricsCalculator() {
+    }
+
+    public static TrackMetrics compute(TrackPoints points) {
+        return compute(points, 0);
+    }
+
+    public static TrackMetrics compute(TrackPoints points, int droppedPointCount) {
+        int n = points.size();
+        if (n < 2) {
+            return new TrackMetrics(n, droppedPointCount, 0.0, 0L, 0.0, 0.0, null, new int[0]);
+        }
+        double[] lats = points.latitudes();
+        double[] lngs = points.longitudes();
+        long[] times = points.timestamps();
+        boolean timed = points.hasTimestamps();
+
+        double distance = 0.0;
+        double movingSeconds = 0.0;
+        double maxSpeed = 0.0;
+        double nextSplitMark = SPLIT_METERS;
+        double lastSplitTime = times[0];
+        int[] splits = new int[8];
+        int splitCount = 0;
+
+        double prevLat = lats[0];
+        double prevLng = lngs[0];
+        double prevCos = Math.cos(Math.toRadians(prevLat));
+        for (int i = 1; i < n; i++) {
+            double lat = lats[i];
+            double lng = lngs[i];
+            double cos = Math.cos(Math.toRadians(lat));
+            double segment = GeoMath.haversineMeters(prevLat, prevLng, prevCos, lat, lng, cos);
+            double segmentStart = distance;
+            distance += segment;
+
+            if (timed) {
+                double dt = (times[i] - times[i - 1]) / 1000.0;
+                if (dt > 0.0) {
+                    double speed = segment / dt;
+                    boolean estimated = points.isSynthetic(i) || points.isSynthetic(i - 1);
+                    if (speed >= MIN_MOVING_SPEED_MPS && (dt <= MAX_MOVING_GAP_SECONDS || estimated)) {
+                        movingSeconds += dt;
+                        if (speed > maxSpeed) {
+                            maxSpeed = speed;
+                        }
+                    }
+                }
+                while (distance >= nextSplitMark && segment > 0.0) {
+                    double fraction = (nextSplitMark - segmentStart) / segment;
+                    double markTime = times[i - 1] + fraction * (times[i] - times[i - 1]);
+                    if (splitCount == splits.length) {
+                        splits = Arrays.copyOf(splits, splitCount << 1);
+                    }
+                    splits[splitCount++] = (int) Math.round((markTime - lastSplitTime) / 1000.0);
+                    lastSplitTime = markTime;
+                    nextSplitMark += SPLIT_METERS;
+                }
+            }
+
+            prevLat = lat;
+            prevLng = lng;
+            prevCos = cos;
+        }
+
+        long movingTime = Math.round(movingSeconds);
+        double averageSpeed = movingSeconds > 0.0 ? distance / movingSeconds : 0.0;
+        Double averagePace = distance > 0.0 && movingSeconds > 0.0 ? movingSeconds / (distance / SPLIT_METERS) : null;
+        return new TrackMetrics(n, droppedPointCount, distance, movingTime, averageSpeed, maxSpeed, averagePace,
+                Arrays.copyOf(splits, splitCount));
+    }
+}
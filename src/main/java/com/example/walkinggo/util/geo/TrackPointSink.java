@@ -0,0 +1,9 @@
+package com.example.walkinggo.util.geo;
+
+@FunctionalInterface
+public interface TrackPointSink {
+
+    long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    void accept(double latitude, double longitude, long timestampMillis);
+}
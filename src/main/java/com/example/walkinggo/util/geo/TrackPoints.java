@@ -0,0 +1,180 @@
+package com.example.walkinggo.util.geo;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+public final class TrackPoints implements TrackPointSink {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private long[] timestamps;
+    private int size;
+    private boolean timed = true;
+    private boolean[] synthetic;
+
+    public TrackPoints() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TrackPoints(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 2);
+        this.latitudes = new double[capacity];
+        this.longitudes = new double[capacity];
+        this.timestamps = new long[capacity];
+    }
+
+    public static TrackPoints parse(String routeCoordinatesJson) {
+        TrackPoints points = new TrackPoints();
+        RouteGeometryParser.parse(routeCoordinatesJson, points);
+        return points;
+    }
+
+    @Override
+    public void accept(double latitude, double longitude, long timestampMillis) {
+        if (size == latitudes.length) {
+            int capacity = size + (size >> 1);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            if (synthetic != null) {
+                synthetic = Arrays.copyOf(synthetic, capacity);
+            }
+        }
+        latitudes[size] = latitude;
+        longitudes[size] = longitude;
+        timestamps[size] = timestampMillis;
+        if (timestampMillis == NO_TIMESTAMP) {
+            timed = false;
+        }
+        size++;
+    }
+
+    public void interpolateMissingTimestamps(LocalDateTime startTime, LocalDateTime endTime) {
+        if (timed || size == 0) {
+            return;
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        long start = startTime != null ? startTime.atZone(zone).toInstant().toEpochMilli() : NO_TIMESTAMP;
+        long end = endTime != null ? endTime.atZone(zone).toInstant().toEpochMilli() : NO_TIMESTAMP;
+        synthetic = new boolean[latitudes.length];
+
+        int previousKnown = -1;
+        int i = 0;
+        while (i < size) {
+            if (timestamps[i] != NO_TIMESTAMP) {
+                previousKnown = i;
+                i++;
+                continue;
+            }
+            int nextKnown = i;
+            while (nextKnown < size && timestamps[nextKnown] == NO_TIMESTAMP) {
+                nextKnown++;
+            }
+            if (nextKnown == size) {
+                nextKnown = -1;
+            }
+            fillGap(i, nextKnown == -1 ? size : nextKnown, previousKnown, nextKnown, start, end);
+            i = nextKnown == -1 ? size : nextKnown;
+        }
+        timed = !hasMissing();
+    }
+
+    private void fillGap(int from, int to, int previousKnown, int nextKnown, long start, long end) {
+        long lower = previousKnown >= 0 ? timestamps[previousKnown] : start;
+        long upper = nextKnown >= 0 ? timestamps[nextKnown] : end;
+        if (lower == NO_TIMESTAMP) {
+            lower = upper;
+        }
+        if (upper == NO_TIMESTAMP || upper < lower) {
+            upper = lower;
+        }
+        if (lower == NO_TIMESTAMP) {
+            return;
+        }
+        int lowerIndex = previousKnown >= 0 ? previousKnown : from;
+        int upperIndex = nextKnown >= 0 ? nextKnown : Math.max(to - 1, lowerIndex);
+        long span = upper - lower;
+        int steps = Math.max(upperIndex - lowerIndex, 1);
+        for (int i = from; i < to; i++) {
+            timestamps[i] = lower + span * (i - lowerIndex) / steps;
+            synthetic[i] = true;
+        }
+    }
+
+    private boolean hasMissing() {
+        for (int i = 0; i < size; i++) {
+            if (timestamps[i] == NO_TIMESTAMP) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void move(int from, int to) {
+        latitudes[to] = latitudes[from];
+        longitudes[to] = longitudes[from];
+        timestamps[to] = timestamps[from];
+        if (synthetic != null) {
+            synthetic[to] = synthetic[from];
+        }
+    }
+
+    public boolean isSynthetic(int index) {
+        return synthetic != null && synthetic[index];
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder(size * 64 + 2).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"lat\":").append(latitudes[i])
+                    .append(",\"lng\":").append(longitudes[i]);
+            if (timestamps[i] != NO_TIMESTAMP) {
+                json.append(",\"timestamp\":").append(timestamps[i]);
+            }
+            json.append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    public LocalDateTime timeAt(int index) {
+        long timestamp = timestamps[index];
+        if (timestamp == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+    }
+
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException(newSize);
+        }
+        size = newSize;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean hasTimestamps() {
+        return timed;
+    }
+
+    public double[] latitudes() {
+        return latitudes;
+    }
+
+    public double[] longitudes() {
+        return longitudes;
+    }
+
+    public long[] timestamps() {
+        return timestamps;
+    }
+}
@@ -0,0 +1,54 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+public class V17__Partition_walk_logs_by_month extends BaseJavaMigration {
+
+    private static final int MONTHS_AHEAD = 3;
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        dropForeignKeys(jdbcTemplate);
+        jdbcTemplate.execute("ALTER TABLE walk_logs DROP PRIMARY KEY, ADD PRIMARY KEY (id, start_time)");
+        jdbcTemplate.execute("ALTER TABLE walk_logs PARTITION BY RANGE COLUMNS (start_time) (" + partitions(firstMonth(jdbcTemplate)) + ")");
+    }
+
+    private static void dropForeignKeys(JdbcTemplate jdbcTemplate) {
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME, CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS " +
+                        "WHERE CONSTRAINT_SCHEMA = DATABASE() AND (TABLE_NAME = 'walk_logs' OR REFERENCED_TABLE_NAME = 'walk_logs')");
+        for (Map<String, Object> foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE `" + foreignKey.get("TABLE_NAME") + "` DROP FOREIGN KEY `" + foreignKey.get("CONSTRAINT_NAME") + "`");
+        }
+    }
+
+    private static YearMonth firstMonth(JdbcTemplate jdbcTemplate) {
+        LocalDateTime earliest = jdbcTemplate.queryForObject("SELECT MIN(start_time) FROM walk_logs", LocalDateTime.class);
+        YearMonth current = YearMonth.now();
+        if (earliest == null || YearMonth.from(earliest).isAfter(current)) {
+            return current;
+        }
+        return YearMonth.from(earliest);
+    }
+
+    private static String partitions(YearMonth first) {
+        YearMonth last = YearMonth.now().plusMonths(MONTHS_AHEAD);
+        StringBuilder definitions = new StringBuilder();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            definitions.append("PARTITION ").append(month.format(PARTITION_NAME))
+                    .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append(" 00:00:00'), ");
+        }
+        return definitions.append("PARTITION p_future VALUES LESS THAN (MAXVALUE)").toString();
+    }
+}
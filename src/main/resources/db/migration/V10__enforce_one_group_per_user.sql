@@ -0,0 +1,16 @@
+DELETE gm FROM group_members gm
+JOIN (
+    SELECT m.user_id,
+           COALESCE(MIN(CASE WHEN g.owner_id = m.user_id THEN m.group_id END), MIN(m.group_id)) AS kept_group_id
+    FROM group_members m
+    JOIN user_groups g ON g.id = m.group_id
+    GROUP BY m.user_id
+    HAVING COUNT(*) > 1
+) kept ON kept.user_id = gm.user_id
+WHERE gm.group_id <> kept.kept_group_id;
+
+UPDATE user_groups g
+SET g.member_count = (SELECT COUNT(*) FROM group_members gm WHERE gm.group_id = g.id);
+
+ALTER TABLE group_members
+    ADD CONSTRAINT uk_group_members_user UNIQUE (user_id);
@@ -0,0 +1,5 @@
+CREATE TABLE code_sequences (
+    name VARCHAR(50) NOT NULL,
+    next_value BIGINT NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
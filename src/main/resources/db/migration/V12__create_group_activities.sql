@@ -0,0 +1,11 @@
+CREATE TABLE group_activities (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    group_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    walk_log_id BIGINT,
+    walk_count INT NOT NULL,
+    distance_meters DOUBLE NOT NULL,
+    walked_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_group_activities_group_id (group_id, id)
+) ENGINE = InnoDB;
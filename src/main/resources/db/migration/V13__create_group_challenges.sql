@@ -0,0 +1,15 @@
+CREATE TABLE group_challenges (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    group_id BIGINT NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    target_distance_meters DOUBLE NOT NULL,
+    progress_distance_meters DOUBLE DEFAULT 0.0 NOT NULL,
+    starts_at DATETIME(6) NOT NULL,
+    ends_at DATETIME(6) NOT NULL,
+    status ENUM ('ACTIVE', 'COMPLETED', 'EXPIRED') NOT NULL,
+    completed_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_group_challenges_group_status (group_id, status),
+    INDEX idx_group_challenges_status_ends_at (status, ends_at)
+) ENGINE = InnoDB;
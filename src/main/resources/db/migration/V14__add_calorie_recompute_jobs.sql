@@ -0,0 +1,21 @@
+CREATE TABLE calorie_recompute_jobs (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    weight_kg DOUBLE,
+    generation BIGINT NOT NULL,
+    status ENUM ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED') NOT NULL,
+    last_walk_log_id BIGINT NOT NULL,
+    processed_walks BIGINT NOT NULL,
+    total_walks BIGINT NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    finished_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_calorie_recompute_jobs_user_id (user_id, id),
+    INDEX idx_calorie_recompute_jobs_status_id (status, id)
+) ENGINE = InnoDB;
+
+ALTER TABLE walk_logs
+    ADD COLUMN calories_user_provided BOOLEAN DEFAULT FALSE NOT NULL;
+
+UPDATE walk_logs SET calories_user_provided = TRUE WHERE steps IS NOT NULL;
@@ -0,0 +1,15 @@
+CREATE TABLE walk_log_route_archives (
+    walk_log_id BIGINT NOT NULL,
+    route_gzip LONGBLOB NOT NULL,
+    original_bytes INT NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (walk_log_id)
+) ENGINE = InnoDB;
+
+ALTER TABLE walk_logs
+    ADD COLUMN route_archived BOOLEAN DEFAULT FALSE NOT NULL,
+    ADD INDEX idx_walk_logs_user_start_time (user_id, start_time);
+
+ALTER TABLE walk_logs
+    DROP INDEX uk_walk_logs_user_dedupe_key,
+    ADD CONSTRAINT uk_walk_logs_user_dedupe_key_start UNIQUE (user_id, dedupe_key, start_time);
@@ -0,0 +1,5 @@
+CREATE INDEX idx_walk_logs_public_created ON walk_logs (is_public_route, created_at);
+
+CREATE INDEX idx_walk_logs_user_calories_id ON walk_logs (user_id, calories_user_provided, id);
+
+CREATE INDEX idx_user_groups_public_distance ON user_groups (is_public, total_distance_meters DESC, name);
@@ -0,0 +1,60 @@
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    password VARCHAR(255) NOT NULL,
+    target_distance_km DOUBLE,
+    username VARCHAR(255) NOT NULL,
+    weight_kg DOUBLE,
+    PRIMARY KEY (id),
+    CONSTRAINT UKr43af9ap4edm43mmtq01oddj6 UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_groups (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6) NOT NULL,
+    description VARCHAR(500),
+    is_public BIT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    participation_code VARCHAR(50),
+    total_distance_meters DOUBLE DEFAULT 0.0 NOT NULL,
+    owner_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKk7ok2am3dfeekaptg7awgf96x UNIQUE (participation_code),
+    CONSTRAINT FKik51mjx3t1go2o5fnu27rvhap FOREIGN KEY (owner_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE group_members (
+    group_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (group_id, user_id),
+    CONSTRAINT FKdak9rix2b3s3lmv7ftnooi346 FOREIGN KEY (group_id) REFERENCES user_groups (id),
+    CONSTRAINT FKnr9qg33qt2ovmv29g4vc3gtdx FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE walk_logs (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    calories_burned DOUBLE,
+    created_at DATETIME(6) NOT NULL,
+    distance_meters DOUBLE,
+    duration_seconds BIGINT,
+    end_time DATETIME(6) NOT NULL,
+    is_public_route BIT NOT NULL,
+    route_coordinates_json TEXT,
+    route_description VARCHAR(500),
+    route_name VARCHAR(100),
+    start_time DATETIME(6) NOT NULL,
+    steps INT,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK49h32no1i7ct5qsvgopbpeka6 FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE shared_routes (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6) NOT NULL,
+    share_id BINARY(16) NOT NULL,
+    walk_log_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UK7smu99glgwp7apf7s7nbk30m0 UNIQUE (share_id),
+    CONSTRAINT UK168v8gic7p6g6vc0lmfeg07jq UNIQUE (walk_log_id),
+    CONSTRAINT FKhrd305i6o32o2u3u7juewv3a6 FOREIGN KEY (walk_log_id) REFERENCES walk_logs (id)
+) ENGINE = InnoDB;
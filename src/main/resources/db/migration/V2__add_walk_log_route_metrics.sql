@@ -0,0 +1,8 @@
+ALTER TABLE walk_logs
+    ADD COLUMN reported_distance_meters DOUBLE,
+    ADD COLUMN moving_time_seconds BIGINT,
+    ADD COLUMN average_speed_mps DOUBLE,
+    ADD COLUMN max_speed_mps DOUBLE,
+    ADD COLUMN average_pace_seconds_per_km DOUBLE,
+    ADD COLUMN pace_splits_json TEXT,
+    ADD COLUMN dropped_point_count INT;
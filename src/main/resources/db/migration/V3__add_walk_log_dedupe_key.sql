@@ -0,0 +1,3 @@
+ALTER TABLE walk_logs
+    ADD COLUMN dedupe_key VARCHAR(64),
+    ADD CONSTRAINT uk_walk_logs_user_dedupe_key UNIQUE (user_id, dedupe_key);
@@ -0,0 +1,15 @@
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    event_type ENUM ('WALK_LOG_CREATED', 'WALK_LOGS_IMPORTED', 'ROUTE_PUBLISHED') NOT NULL,
+    payload TEXT NOT NULL,
+    status ENUM ('PENDING', 'PROCESSED', 'DEAD') NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6),
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    processed_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_outbox_events_status_id (status, id),
+    INDEX idx_outbox_events_status_user_id (status, user_id, id)
+) ENGINE = InnoDB;
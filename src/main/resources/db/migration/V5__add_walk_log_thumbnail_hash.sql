@@ -0,0 +1,2 @@
+ALTER TABLE walk_logs
+    ADD COLUMN thumbnail_hash VARCHAR(64);
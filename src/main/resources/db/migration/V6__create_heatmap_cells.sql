@@ -0,0 +1,14 @@
+CREATE TABLE heatmap_cells (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    zoom INT NOT NULL,
+    tile_x INT NOT NULL,
+    tile_y INT NOT NULL,
+    cell_x INT NOT NULL,
+    cell_y INT NOT NULL,
+    walk_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_heatmap_cells_tile_cell UNIQUE (zoom, tile_x, tile_y, cell_y, cell_x)
+) ENGINE = InnoDB;
+
+ALTER TABLE walk_logs
+    ADD COLUMN heatmap_aggregated BOOLEAN DEFAULT FALSE NOT NULL;
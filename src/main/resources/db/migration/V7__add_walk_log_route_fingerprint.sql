@@ -0,0 +1,2 @@
+ALTER TABLE walk_logs
+    ADD COLUMN route_fingerprint VARBINARY(128);
@@ -0,0 +1,6 @@
+ALTER TABLE user_groups
+    ADD COLUMN member_count INT DEFAULT 0 NOT NULL,
+    ADD INDEX idx_user_groups_public_name_id (is_public, name, id);
+
+UPDATE user_groups g
+SET g.member_count = (SELECT COUNT(*) FROM group_members gm WHERE gm.group_id = g.id);
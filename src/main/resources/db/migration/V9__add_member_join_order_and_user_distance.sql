@@ -0,0 +1,6 @@
+ALTER TABLE group_members
+    ADD COLUMN joined_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
+    ADD INDEX idx_group_members_group_joined_user (group_id, joined_at, user_id);
+
+ALTER TABLE users
+    ADD COLUMN total_distance_meters DOUBLE DEFAULT 0.0 NOT NULL;
@@ -0,0 +1,145 @@
+package com.example.walkinggo.config;
+
+import com.example.walkinggo.service.ReadYourWritesTracker;
+import com.example.walkinggo.service.ReplicaLagMonitor;
+import com.example.walkinggo.service.ResourceVersionRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ReadWriteRoutingDataSourceIntegrationTest {
+
+    @Container
+    static MySQLContainer<?> primary = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0");
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ResourceVersionRegistry resourceVersionRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeAll
+    static void labelDatabases() {
+        label(primary, "primary");
+        label(replica, "replica");
+    }
+
+    private static void label(MySQLContainer<?> container, String name) {
+        JdbcTemplate template = new JdbcTemplate(dataSourceOf(container));
+        template.execute("CREATE TABLE node (name VARCHAR(20) NOT NULL)");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+    }
+
+    private static DataSource dataSourceOf(MySQLContainer<?> container) {
+        return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor = mock(ReplicaLagMonitor.class);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        readYourWritesTracker = new ReadYourWritesTracker(60_000L);
+        resourceVersionRegistry = new ResourceVersionRegistry(readYourWritesTracker);
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, dataSourceOf(primary),
+                ReadWriteRoutingDataSource.Route.REPLICA, dataSourceOf(replica)));
+        routingDataSource.setDefaultTargetDataSource(dataSourceOf(primary));
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(false);
+
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void writerReadsOwnWritesFromPrimaryWhileOthersUseReplica() {
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> currentNode());
+
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+        authenticate("bob");
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void recentlyChangedResourcePinsOnlyRequestsThatReadIt() {
+        resourceVersionRegistry.bump(ResourceVersionRegistry.group(1L));
+
+        startRequest();
+        resourceVersionRegistry.etag(ResourceVersionRegistry.group(1L));
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+
+        startRequest();
+        resourceVersionRegistry.etag(ResourceVersionRegistry.group(2L));
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+
+        startRequest();
+        resourceVersionRegistry.etag(ResourceVersionRegistry.RECOMMENDED_ROUTES);
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    private String currentNode() {
+        List<String> names = jdbcTemplate.queryForList("SELECT name FROM node", String.class);
+        return names.get(0);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
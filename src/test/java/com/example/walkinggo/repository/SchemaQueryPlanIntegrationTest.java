@@ -0,0 +1,164 @@
+package com.example.walkinggo.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaQueryPlanIntegrationTest {
+
+    private static final int USERS = 200;
+    private static final int WALKS_PER_USER = 30;
+    private static final int GROUPS = 400;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 6, 0);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[]{(long) i, "walker" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, username, password, total_distance_meters) VALUES (?, ?, 'password', 0)", users);
+
+        List<Object[]> walks = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            for (int j = 0; j < WALKS_PER_USER; j++) {
+                Timestamp start = Timestamp.valueOf(BASE.plusDays(j).plusMinutes(i));
+                walks.add(new Object[]{(long) i, start, start, start, j % 10 == 0, j % 3 == 0});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO walk_logs (user_id, start_time, end_time, created_at, is_public_route, calories_user_provided) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", walks);
+
+        List<Object[]> groups = new ArrayList<>();
+        for (int i = 1; i <= GROUPS; i++) {
+            groups.add(new Object[]{(long) i, "group" + i, (long) (i % USERS) + 1, i % 10 == 0, i * 13.0 % 1000,
+                    Timestamp.valueOf(BASE)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_groups (id, name, owner_id, is_public, total_distance_meters, created_at, member_count) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 0)", groups);
+
+        List<Object[]> members = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            members.add(new Object[]{(long) (i % GROUPS) + 1, (long) i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO group_members (group_id, user_id) VALUES (?, ?)", members);
+
+        List<Object[]> events = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            events.add(new Object[]{(long) (i % USERS) + 1, i % 20 == 0 ? "PENDING" : "PROCESSED", Timestamp.valueOf(BASE)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO outbox_events (user_id, event_type, payload, status, attempts, created_at) " +
+                "VALUES (?, 'WALK_LOG_CREATED', '{}', ?, 0, ?)", events);
+
+        jdbcTemplate.execute("ANALYZE TABLE users, walk_logs, user_groups, group_members, outbox_events");
+    }
+
+    @Test
+    void migrationsKeepHibernateConstraintNames() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT constraint_name FROM information_schema.table_constraints WHERE table_schema = DATABASE()", String.class);
+
+        assertThat(names).contains(
+                "UKr43af9ap4edm43mmtq01oddj6",
+                "UKk7ok2am3dfeekaptg7awgf96x",
+                "FKik51mjx3t1go2o5fnu27rvhap",
+                "FKdak9rix2b3s3lmv7ftnooi346",
+                "FKnr9qg33qt2ovmv29g4vc3gtdx",
+                "UK7smu99glgwp7apf7s7nbk30m0",
+                "UK168v8gic7p6g6vc0lmfeg07jq",
+                "uk_group_members_user",
+                "uk_walk_logs_user_dedupe_key_start",
+                "uk_heatmap_cells_tile_cell");
+        Integer failed = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM flyway_schema_history WHERE success = 0", Integer.class);
+        assertThat(failed).isZero();
+    }
+
+    @Test
+    void walkLogsByDateUseUserStartTimeIndex() {
+        assertUsesIndex("SELECT * FROM walk_logs WHERE user_id = 7 " +
+                        "AND start_time >= '2024-01-05 00:00:00' AND start_time < '2024-01-06 00:00:00' ORDER BY start_time DESC",
+                "idx_walk_logs_user_start_time");
+    }
+
+    @Test
+    void activeDatesInMonthUseUserStartTimeIndex() {
+        assertUsesIndex("SELECT DISTINCT DATE(start_time) FROM walk_logs WHERE user_id = 7 " +
+                        "AND start_time >= '2024-01-01 00:00:00' AND start_time < '2024-02-01 00:00:00'",
+                "idx_walk_logs_user_start_time");
+    }
+
+    @Test
+    void publicRoutesUsePublicCreatedIndex() {
+        assertUsesIndex("SELECT * FROM walk_logs WHERE is_public_route = TRUE ORDER BY created_at DESC LIMIT 20",
+                "idx_walk_logs_public_created");
+    }
+
+    @Test
+    void recomputableCaloriesCountUsesUserCaloriesIndex() {
+        assertUsesIndex("SELECT COUNT(*) FROM walk_logs WHERE user_id = 7 AND calories_user_provided = FALSE",
+                "idx_walk_logs_user_calories_id");
+    }
+
+    @Test
+    void publicGroupRankingUsesPublicDistanceIndex() {
+        assertUsesIndex("SELECT * FROM user_groups WHERE is_public = TRUE ORDER BY total_distance_meters DESC, name ASC LIMIT 20",
+                "idx_user_groups_public_distance");
+    }
+
+    @Test
+    void publicGroupPageUsesPublicNameIndex() {
+        assertUsesIndex("SELECT id, name FROM user_groups WHERE is_public = TRUE " +
+                        "AND (name > 'group100' OR (name = 'group100' AND id > 100)) ORDER BY name ASC, id ASC LIMIT 20",
+                "idx_user_groups_public_name_id");
+    }
+
+    @Test
+    void groupIdsByMemberUseMemberUniqueKey() {
+        assertUsesIndex("SELECT gm.group_id FROM group_members gm WHERE gm.user_id = 7", "uk_group_members_user");
+    }
+
+    @Test
+    void outboxUserHeadsUseStatusUserIndex() {
+        assertUsesIndex("SELECT user_id, MIN(id) FROM outbox_events WHERE status = 'PENDING' GROUP BY user_id",
+                "idx_outbox_events_status_user_id");
+    }
+
+    private void assertUsesIndex(String sql, String expectedIndex) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        assertThat(plan).isNotEmpty();
+        Map<String, Object> row = plan.get(0);
+        assertThat(row.get("type")).as("실행 계획: %s", plan).isNotEqualTo("ALL");
+        assertThat(row.get("key")).as("실행 계획: %s", plan).isEqualTo(expectedIndex);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.GroupActivity;
+import com.example.walkinggo.repository.GroupActivityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupActivityFeedTest {
+
+    private static final Long GROUP_ID = 7L;
+
+    private final GroupActivityRepository repository = mock(GroupActivityRepository.class);
+    private final GroupActivityFeed feed = new GroupActivityFeed(repository, mock(PlatformTransactionManager.class), 3, 10);
+
+    private static GroupActivity activity(long id) {
+        return GroupActivity.builder()
+                .id(id)
+                .groupId(GROUP_ID)
+                .userId(1L)
+                .walkCount(1)
+                .distanceMeters(1000.0)
+                .walkedAt(LocalDateTime.of(2025, 5, 1, 9, 0))
+                .build();
+    }
+
+    private static List<Long> idsOf(GroupActivityFeed.Page page) {
+        return page.activities().stream().map(GroupActivity::getId).toList();
+    }
+
+    @Test
+    void loadsRingOnceAndServesAppendsFromMemory() {
+        when(repository.findByGroupIdOrderByIdDesc(eq(GROUP_ID), any(Pageable.class)))
+                .thenReturn(List.of(activity(2L), activity(1L)));
+
+        GroupActivityFeed.Page first = feed.latest(GROUP_ID, 3);
+        feed.appendAfterCommit(activity(3L));
+        GroupActivityFeed.Page second = feed.latest(GROUP_ID, 3);
+
+        assertThat(idsOf(first)).containsExactly(2L, 1L);
+        assertThat(first.nextBeforeId()).isNull();
+        assertThat(idsOf(second)).containsExactly(3L, 2L, 1L);
+        verify(repository, times(1)).findByGroupIdOrderByIdDesc(eq(GROUP_ID), any(Pageable.class));
+    }
+
+    @Test
+    void wrappedRingKeepsNewestAndPointsToOlderPage() {
+        when(repository.findByGroupIdOrderByIdDesc(eq(GROUP_ID), any(Pageable.class)))
+                .thenReturn(List.of(activity(1L)));
+        feed.latest(GROUP_ID, 1);
+
+        for (long id = 2; id <= 5; id++) {
+            feed.appendAfterCommit(activity(id));
+        }
+        GroupActivityFeed.Page page = feed.latest(GROUP_ID, 3);
+
+        assertThat(idsOf(page)).containsExactly(5L, 4L, 3L);
+        assertThat(page.nextBeforeId()).isEqualTo(3L);
+    }
+
+    @Test
+    void fullRingOnLoadIsNotComplete() {
+        when(repository.findByGroupIdOrderByIdDesc(eq(GROUP_ID), any(Pageable.class)))
+                .thenReturn(List.of(activity(9L), activity(8L), activity(7L)));
+
+        GroupActivityFeed.Page page = feed.latest(GROUP_ID, 2);
+
+        assertThat(idsOf(page)).containsExactly(9L, 8L);
+        assertThat(page.nextBeforeId()).isEqualTo(8L);
+    }
+
+    @Test
+    void ignoresStaleOrDuplicateAppends() {
+        when(repository.findByGroupIdOrderByIdDesc(eq(GROUP_ID), any(Pageable.class)))
+                .thenReturn(List.of(activity(5L)));
+        feed.latest(GROUP_ID, 1);
+
+        feed.appendAfterCommit(activity(5L));
+        feed.appendAfterCommit(activity(4L));
+
+        assertThat(idsOf(feed.latest(GROUP_ID, 3))).containsExactly(5L);
+    }
+
+    @Test
+    void evictedGroupIsReloaded() {
+        when(repository.findByGroupIdOrderByIdDesc(eq(GROUP_ID), any(Pageable.class)))
+                .thenReturn(List.of(activity(1L)));
+        feed.latest(GROUP_ID, 1);
+
+        feed.evictAfterCommit(GROUP_ID);
+        feed.latest(GROUP_ID, 1);
+
+        verify(repository, times(2)).findByGroupIdOrderByIdDesc(eq(GROUP_ID), any(Pageable.class));
+    }
+
+    @Test
+    void pageLargerThanRingGoesToDatabase() {
+        when(repository.findByGroupIdAndIdLessThanOrderByIdDesc(eq(GROUP_ID), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(activity(6L), activity(5L), activity(4L), activity(3L), activity(2L)));
+
+        GroupActivityFeed.Page page = feed.latest(GROUP_ID, 4);
+
+        assertThat(idsOf(page)).containsExactly(6L, 5L, 4L, 3L);
+        assertThat(page.nextBeforeId()).isEqualTo(3L);
+    }
+}
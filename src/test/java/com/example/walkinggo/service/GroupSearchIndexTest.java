@@ -0,0 +1,72 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.repository.UserGroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class GroupSearchIndexTest {
+
+    private final GroupSearchIndex index = new GroupSearchIndex(mock(UserGroupRepository.class));
+
+    @BeforeEach
+    void setUp() {
+        index.addAfterCommit(1L, "서울 한강 산책");
+        index.addAfterCommit(2L, "한강 러닝 크루");
+        index.addAfterCommit(3L, "한강");
+        index.addAfterCommit(4L, "부산 바다");
+    }
+
+    @Test
+    void ranksExactThenPrefixThenContains() {
+        GroupSearchIndex.SearchResult result = index.search("한강", 0, 10);
+
+        assertThat(result.groupIds()).containsExactly(3L, 2L, 1L);
+        assertThat(result.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    void pagesThroughRankedMatches() {
+        GroupSearchIndex.SearchResult result = index.search("한강", 1, 2);
+
+        assertThat(result.groupIds()).containsExactly(1L);
+        assertThat(result.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    void matchesRegardlessOfCaseWidthAndSpacing() {
+        index.addAfterCommit(5L, "Morning   Walkers");
+
+        assertThat(index.search("ＭＯＲＮＩＮＧ walkers", 0, 10).groupIds()).containsExactly(5L);
+        assertThat(index.search("morning", 0, 10).groupIds()).containsExactly(5L);
+    }
+
+    @Test
+    void singleCharacterQueryMatchesUnigram() {
+        assertThat(index.search("바", 0, 10).groupIds()).containsExactly(4L);
+    }
+
+    @Test
+    void queryWithUnknownGramMatchesNothing() {
+        GroupSearchIndex.SearchResult result = index.search("한강 수영", 0, 10);
+
+        assertThat(result.groupIds()).isEmpty();
+        assertThat(result.totalCount()).isZero();
+    }
+
+    @Test
+    void blankQueryMatchesNothing() {
+        assertThat(index.search("   ", 0, 10).groupIds()).isEmpty();
+    }
+
+    @Test
+    void removedAndRenamedGroupsLeaveTheIndex() {
+        index.removeAfterCommit(3L);
+        index.addAfterCommit(2L, "부산 러닝 크루");
+
+        assertThat(index.search("한강", 0, 10).groupIds()).containsExactly(1L);
+        assertThat(index.search("부산", 0, 10).groupIds()).containsExactly(4L, 2L);
+    }
+}
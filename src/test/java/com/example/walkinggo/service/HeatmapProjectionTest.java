@@ -0,0 +1,74 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.OutboxEvent;
+import com.example.walkinggo.entity.OutboxEventStatus;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.repository.OutboxEventRepository;
+import com.example.walkinggo.repository.WalkLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HeatmapProjectionTest {
+
+    private final WalkLogRepository walkLogRepository = mock(WalkLogRepository.class);
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private HeatmapProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        OutboxEventPublisher outboxEventPublisher = new OutboxEventPublisher(outboxEventRepository, new ObjectMapper());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        projection = new HeatmapProjection(walkLogRepository, mock(HeatmapService.class), outboxEventPublisher,
+                outboxEventRepository, transactionTemplate);
+        when(walkLogRepository.findPublicRoutesPendingHeatmap(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new Object[]{1L, 7L}, new Object[]{2L, 7L}));
+        when(walkLogRepository.findPublicRoutesPendingHeatmap(eq(2L), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    private static OutboxEvent routePublished(long id, long walkLogId) {
+        return OutboxEvent.builder()
+                .id(id)
+                .userId(7L)
+                .eventType(OutboxEventType.ROUTE_PUBLISHED)
+                .payload("{\"walkLogId\":" + walkLogId + ",\"userId\":7}")
+                .build();
+    }
+
+    @Test
+    void enqueuesOnlyRoutesWithoutPendingEvent() {
+        when(outboxEventRepository.findByStatusAndEventType(OutboxEventStatus.PENDING, OutboxEventType.ROUTE_PUBLISHED))
+                .thenReturn(List.of(routePublished(100L, 1L)));
+
+        projection.enqueuePendingRoutes();
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getPayload()).contains("\"walkLogId\":2");
+    }
+
+    @Test
+    void restartWithAllRoutesQueuedPublishesNothing() {
+        when(outboxEventRepository.findByStatusAndEventType(OutboxEventStatus.PENDING, OutboxEventType.ROUTE_PUBLISHED))
+                .thenReturn(List.of(routePublished(100L, 1L), routePublished(101L, 2L)));
+
+        projection.enqueuePendingRoutes();
+
+        verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+    }
+}
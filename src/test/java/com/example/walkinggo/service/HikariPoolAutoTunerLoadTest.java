@@ -0,0 +1,97 @@
+package com.example.walkinggo.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class HikariPoolAutoTunerLoadTest {
+
+    private static final int INITIAL_SIZE = 2;
+    private static final int MIN_SIZE = 2;
+    private static final int MAX_SIZE = 8;
+    private static final int LOAD_THREADS = 16;
+    private static final int SHRINK_AFTER_IDLE_PERIODS = 2;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private HikariDataSource dataSource;
+    private HikariPoolAutoTuner tuner;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(mysql.getJdbcUrl());
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+        dataSource.setPoolName("walkinggo-load-test");
+        dataSource.setMaximumPoolSize(INITIAL_SIZE);
+        dataSource.setMinimumIdle(INITIAL_SIZE);
+        dataSource.setMetricRegistry(meterRegistry);
+        tuner = new HikariPoolAutoTuner(List.of(dataSource), meterRegistry, MIN_SIZE, MAX_SIZE, 5, 0.5, SHRINK_AFTER_IDLE_PERIODS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void growsUnderQueueingWithinBoundsAndShrinksWhenIdle() throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        tuner.tune();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService load = Executors.newFixedThreadPool(LOAD_THREADS);
+        for (int i = 0; i < LOAD_THREADS; i++) {
+            load.submit(() -> {
+                while (running.get()) {
+                    jdbcTemplate.queryForObject("SELECT SLEEP(0.02)", Integer.class);
+                }
+                return null;
+            });
+        }
+
+        int peak = INITIAL_SIZE;
+        try {
+            for (int round = 0; round < 20 && peak < MAX_SIZE; round++) {
+                Thread.sleep(300);
+                tuner.tune();
+                int size = dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+                assertThat(size).isBetween(peak, MAX_SIZE);
+                peak = size;
+            }
+        } finally {
+            running.set(false);
+            load.shutdown();
+            assertThat(load.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(peak).isEqualTo(MAX_SIZE);
+
+        tuner.tune();
+        for (int round = 0; round < (MAX_SIZE - MIN_SIZE + 2) * SHRINK_AFTER_IDLE_PERIODS; round++) {
+            int before = dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+            tuner.tune();
+            int after = dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+            assertThat(after).isBetween(Math.max(MIN_SIZE, before - 1), before);
+        }
+        assertThat(dataSource.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(MIN_SIZE);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.OutboxEvent;
+import com.example.walkinggo.entity.OutboxEventStatus;
+import com.example.walkinggo.event.OutboxEventHandler;
+import com.example.walkinggo.event.OutboxEventType;
+import com.example.walkinggo.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final List<Long> handled = new ArrayList<>();
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        OutboxEventHandler handler = new OutboxEventHandler() {
+            @Override
+            public Set<OutboxEventType> getEventTypes() {
+                return Set.of(OutboxEventType.WALK_LOG_CREATED);
+            }
+
+            @Override
+            public void handle(OutboxEvent event) {
+                if (event.getId() == 1L) {
+                    throw new IllegalStateException("projection failed");
+                }
+                handled.add(event.getId());
+            }
+        };
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        dispatcher = new OutboxDispatcher(repository, transactionTemplate, List.of(handler), new SimpleMeterRegistry(), 100, 20, 10);
+        when(repository.findFirstByStatusOrderByIdAsc(OutboxEventStatus.PENDING)).thenReturn(Optional.empty());
+    }
+
+    private static OutboxEvent event(long id, long userId, LocalDateTime nextAttemptAt) {
+        return OutboxEvent.builder()
+                .id(id)
+                .userId(userId)
+                .eventType(OutboxEventType.WALK_LOG_CREATED)
+                .payload("{}")
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void failingHeadBlocksOnlyItsOwnUser() {
+        when(repository.findUsersWithDueHeadEvent(any(), anyInt())).thenReturn(List.of(1L, 2L));
+        when(repository.findByUserIdAndStatusOrderByIdAsc(eq(1L), eq(OutboxEventStatus.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(event(1L, 1L, null), event(2L, 1L, null)));
+        when(repository.findByUserIdAndStatusOrderByIdAsc(eq(2L), eq(OutboxEventStatus.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(event(3L, 2L, null)));
+
+        dispatcher.dispatch();
+
+        assertThat(handled).containsExactly(3L);
+        verify(repository).markFailed(eq(1L), eq(OutboxEventStatus.PENDING), eq(1), any(), any());
+        verify(repository, never()).markProcessed(eq(2L), any());
+        verify(repository).markProcessed(eq(3L), any());
+    }
+
+    @Test
+    void stopsAtEventThatIsNotDueYet() {
+        when(repository.findUsersWithDueHeadEvent(any(), anyInt())).thenReturn(List.of(2L));
+        when(repository.findByUserIdAndStatusOrderByIdAsc(eq(2L), eq(OutboxEventStatus.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(event(3L, 2L, null), event(4L, 2L, LocalDateTime.now().plusMinutes(5)), event(5L, 2L, null)));
+
+        dispatcher.dispatch();
+
+        assertThat(handled).containsExactly(3L);
+    }
+}
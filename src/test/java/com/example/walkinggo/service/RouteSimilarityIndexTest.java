@@ -0,0 +1,54 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.repository.WalkLogRepository;
+import com.example.walkinggo.util.geo.RouteFingerprint;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RouteSimilarityIndexTest {
+
+    private final RouteSimilarityIndex index = new RouteSimilarityIndex(mock(WalkLogRepository.class),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), 0.5);
+
+    private static int[] signature(int firstHalf, int secondHalf) {
+        int[] signature = new int[RouteFingerprint.SIGNATURE_LENGTH];
+        Arrays.fill(signature, 0, signature.length / 2, firstHalf);
+        Arrays.fill(signature, signature.length / 2, signature.length, secondHalf);
+        return signature;
+    }
+
+    @Test
+    void similarRouteJoinsRepresentativeCluster() {
+        index.add(1L, signature(0, 0));
+        index.add(2L, signature(0, 1));
+
+        assertThat(index.isRepresentative(1L)).isTrue();
+        assertThat(index.isRepresentative(2L)).isFalse();
+        assertThat(index.clusterSizeOf(1L)).isEqualTo(2);
+        assertThat(index.nonRepresentativeIds()).containsExactly(2L);
+    }
+
+    @Test
+    void routeSimilarOnlyToMemberDoesNotChainIntoCluster() {
+        index.add(1L, signature(0, 0));
+        index.add(2L, signature(0, 1));
+        index.add(3L, signature(2, 1));
+
+        assertThat(index.isRepresentative(3L)).isTrue();
+        assertThat(index.clusterSizeOf(1L)).isEqualTo(2);
+        assertThat(index.clusterSizeOf(3L)).isEqualTo(1);
+    }
+
+    @Test
+    void unknownRouteIsItsOwnRepresentative() {
+        assertThat(index.isRepresentative(42L)).isTrue();
+        assertThat(index.clusterSizeOf(42L)).isEqualTo(1);
+        assertThat(index.nonRepresentativeIds()).isEmpty();
+    }
+}
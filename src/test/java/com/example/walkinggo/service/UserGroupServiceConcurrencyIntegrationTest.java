@@ -0,0 +1,213 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.GroupCreationRequest;
+import com.example.walkinggo.dto.GroupResponse;
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserGroupService.class, ResourceVersionRegistry.class, ReadYourWritesTracker.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class UserGroupServiceConcurrencyIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @MockitoBean
+    private GroupSearchIndex groupSearchIndex;
+    @MockitoBean
+    private GroupCodeCache groupCodeCache;
+    @MockitoBean
+    private GroupActivityFeed groupActivityFeed;
+    @MockitoBean
+    private ParticipationCodeAllocator participationCodeAllocator;
+
+    @Autowired
+    private UserGroupService userGroupService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM group_members");
+        jdbcTemplate.update("DELETE FROM user_groups");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void concurrentJoinsToOneGroupAllSucceedWithExactMemberCount() throws Exception {
+        Long groupId = createPublicGroup("owner");
+        List<Callable<Object>> joins = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String username = createUser("walker" + i).getUsername();
+            joins.add(() -> {
+                userGroupService.joinPublicGroup(groupId, username);
+                return null;
+            });
+        }
+
+        List<Throwable> failures = runConcurrently(joins);
+
+        assertThat(failures).isEmpty();
+        assertThat(membersOf(groupId)).isEqualTo(THREADS + 1);
+        assertThat(memberCountOf(groupId)).isEqualTo(THREADS + 1);
+    }
+
+    @Test
+    void concurrentJoinsToDifferentGroupsLeaveExactlyOneMembership() throws Exception {
+        List<Long> groupIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            groupIds.add(createPublicGroup("owner" + i));
+        }
+        User walker = createUser("walker");
+        List<Callable<Object>> joins = new ArrayList<>();
+        for (Long groupId : groupIds) {
+            joins.add(() -> {
+                userGroupService.joinPublicGroup(groupId, walker.getUsername());
+                return null;
+            });
+        }
+
+        List<Throwable> failures = runConcurrently(joins);
+
+        assertThat(failures).hasSize(THREADS - 1);
+        assertThat(groupsOf(walker)).isEqualTo(1);
+        for (Long groupId : groupIds) {
+            assertThat(memberCountOf(groupId)).isEqualTo(membersOf(groupId));
+        }
+    }
+
+    @Test
+    void concurrentCreatesByOneUserLeaveExactlyOneGroup() throws Exception {
+        User owner = createUser("owner");
+        List<Callable<Object>> creates = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            GroupCreationRequest request = publicGroupRequest("group" + i);
+            creates.add(() -> userGroupService.createGroup(request, owner.getUsername()));
+        }
+
+        List<Throwable> failures = runConcurrently(creates);
+
+        assertThat(failures).hasSize(THREADS - 1);
+        assertThat(groupsOf(owner)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_groups", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCreateAndJoinByOneUserLeaveExactlyOneMembership() throws Exception {
+        List<Long> groupIds = new ArrayList<>();
+        for (int i = 0; i < THREADS / 2; i++) {
+            groupIds.add(createPublicGroup("owner" + i));
+        }
+        User walker = createUser("walker");
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < groupIds.size(); i++) {
+            Long groupId = groupIds.get(i);
+            GroupCreationRequest request = publicGroupRequest("own" + i);
+            tasks.add(() -> {
+                userGroupService.joinPublicGroup(groupId, walker.getUsername());
+                return null;
+            });
+            tasks.add(() -> userGroupService.createGroup(request, walker.getUsername()));
+        }
+
+        List<Throwable> failures = runConcurrently(tasks);
+
+        assertThat(failures).hasSize(tasks.size() - 1);
+        assertThat(groupsOf(walker)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_groups", Integer.class))
+                .isIn(groupIds.size(), groupIds.size() + 1);
+    }
+
+    private List<Throwable> runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User createUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+
+    private Long createPublicGroup(String ownerUsername) {
+        createUser(ownerUsername);
+        GroupResponse group = userGroupService.createGroup(publicGroupRequest(ownerUsername + "-group"), ownerUsername);
+        return group.getId();
+    }
+
+    private static GroupCreationRequest publicGroupRequest(String name) {
+        GroupCreationRequest request = new GroupCreationRequest();
+        request.setName(name);
+        request.setDescription("한강 산책 모임");
+        request.setIsPublic(true);
+        return request;
+    }
+
+    private int membersOf(Long groupId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM group_members WHERE group_id = ?", Integer.class, groupId);
+    }
+
+    private int memberCountOf(Long groupId) {
+        return jdbcTemplate.queryForObject("SELECT member_count FROM user_groups WHERE id = ?", Integer.class, groupId);
+    }
+
+    private int groupsOf(User user) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM group_members WHERE user_id = ?", Integer.class, user.getId());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.WalkImportJobResponse;
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.repository.UserRepository;
+import com.example.walkinggo.util.geo.RouteGeometryProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WalkImportServiceTest {
+
+    private static final String VALID_GPX = """
+            <gpx version="1.1" creator="test" xmlns="http://www.topografix.com/GPX/1/1">
+              <trk><name>morning</name><trkseg>
+                <trkpt lat="37.5665" lon="126.9780"><time>2025-05-01T00:00:00Z</time></trkpt>
+                <trkpt lat="37.5670" lon="126.9785"><time>2025-05-01T00:01:00Z</time></trkpt>
+              </trkseg></trk>
+            </gpx>
+            """;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final WalkLogImportWriter writer = mock(WalkLogImportWriter.class);
+    private WalkImportService service;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("walker");
+        when(userRepository.findByUsername("walker")).thenReturn(Optional.of(user));
+        when(writer.write(eq(1L), any(), anyList()))
+                .thenAnswer(invocation -> new WalkLogImportWriter.BatchResult(invocation.<List<?>>getArgument(2).size(), 0, 0.0));
+        service = new WalkImportService(userRepository, mock(RouteGeometryProcessor.class), writer,
+                mock(OutboxEventPublisher.class), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                200, 1, 2, 1024, 2048);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void oversizedEntryIsCountedAsFailedTrackWithoutFailingTheJob() throws Exception {
+        String oversized = VALID_GPX.replace("<trk>", "<!-- " + "x".repeat(4096) + " --><trk>");
+        byte[] zip = zip("ok-1.gpx", VALID_GPX, "huge.gpx", oversized, "ok-2.gpx", VALID_GPX);
+
+        WalkImportJobResponse job = awaitFinished(service.startImport("walker",
+                new MockMultipartFile("file", "walks.zip", "application/zip", zip)));
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(job.getParsedTracks()).isEqualTo(2);
+        assertThat(job.getFailedTracks()).isEqualTo(1);
+        assertThat(job.getImportedWalks()).isEqualTo(2);
+    }
+
+    @Test
+    void singleGpxUploadIsParsedWithoutBuffering() throws Exception {
+        WalkImportJobResponse job = awaitFinished(service.startImport("walker",
+                new MockMultipartFile("file", "walk.gpx", "application/gpx+xml", VALID_GPX.getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(job.getParsedTracks()).isEqualTo(1);
+        assertThat(job.getImportedWalks()).isEqualTo(1);
+    }
+
+    private WalkImportJobResponse awaitFinished(WalkImportJobResponse started) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            WalkImportJobResponse job = service.getJob("walker", started.getJobId());
+            if (job.getStatus().equals("COMPLETED") || job.getStatus().equals("FAILED")) {
+                return job;
+            }
+            Thread.sleep(25);
+        }
+        throw new AssertionError("가져오기 작업이 끝나지 않았습니다: " + started.getJobId());
+    }
+
+    private static byte[] zip(String... namesAndContents) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+                zip.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.walkinggo.service;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class WalkLogPartitionMigrationIntegrationTest {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Test
+    void partitionsExistingHistoryIntoMonthlyPartitions() {
+        DataSource dataSource = new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("16").load().migrate();
+
+        jdbcTemplate.update("INSERT INTO users (id, username, password) VALUES (1, 'walker', 'password')");
+        insertWalk(jdbcTemplate, 1L, LocalDateTime.of(2024, 3, 15, 7, 0));
+        insertWalk(jdbcTemplate, 2L, LocalDateTime.of(2025, 7, 2, 7, 0));
+        insertWalk(jdbcTemplate, 3L, LocalDateTime.of(2025, 7, 30, 7, 0));
+        jdbcTemplate.update("INSERT INTO shared_routes (share_id, walk_log_id, created_at) VALUES (UNHEX(REPLACE(UUID(), '-', '')), 2, NOW(6))");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'walk_logs' ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class);
+        assertThat(partitions.get(0)).isEqualTo("p202403");
+        assertThat(partitions).contains("p202404", "p202507",
+                YearMonth.now().format(PARTITION_NAME), YearMonth.now().plusMonths(3).format(PARTITION_NAME));
+        assertThat(partitions.get(partitions.size() - 1)).isEqualTo("p_future");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM walk_logs PARTITION (p202403)", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM walk_logs PARTITION (p202507)", Integer.class)).isEqualTo(2);
+
+        Map<String, Object> plan = jdbcTemplate.queryForMap(
+                "EXPLAIN SELECT id FROM walk_logs WHERE user_id = 1 " +
+                        "AND start_time >= '2025-07-01 00:00:00' AND start_time < '2025-08-01 00:00:00'");
+        assertThat(plan.get("partitions")).isEqualTo("p202507");
+
+        Integer foreignKeys = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.REFERENTIAL_CONSTRAINTS " +
+                        "WHERE CONSTRAINT_SCHEMA = DATABASE() AND (TABLE_NAME = 'walk_logs' OR REFERENCED_TABLE_NAME = 'walk_logs')",
+                Integer.class);
+        assertThat(foreignKeys).isZero();
+    }
+
+    private static void insertWalk(JdbcTemplate jdbcTemplate, Long id, LocalDateTime startTime) {
+        jdbcTemplate.update("INSERT INTO walk_logs (id, user_id, start_time, end_time, created_at, is_public_route) VALUES (?, 1, ?, ?, ?, FALSE)",
+                id, Timestamp.valueOf(startTime), Timestamp.valueOf(startTime.plusMinutes(30)), Timestamp.valueOf(startTime));
+    }
+}
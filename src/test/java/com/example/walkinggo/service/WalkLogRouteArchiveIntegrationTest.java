@@ -0,0 +1,154 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.entity.SharedRoute;
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.repository.SharedRouteRepository;
+import com.example.walkinggo.repository.UserRepository;
+import com.example.walkinggo.repository.WalkLogRepository;
+import com.example.walkinggo.repository.WalkLogRouteArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WalkLogRouteArchiveService.class, WalkLogPartitionMaintainer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class WalkLogRouteArchiveIntegrationTest {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String ROUTE = "[{\"lat\":37.5665,\"lng\":126.978},{\"lat\":37.567,\"lng\":126.9785}]";
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WalkLogRepository walkLogRepository;
+    @Autowired
+    private SharedRouteRepository sharedRouteRepository;
+    @Autowired
+    private WalkLogRouteArchiveRepository archiveRepository;
+    @Autowired
+    private WalkLogRouteArchiveService routeArchiveService;
+    @Autowired
+    private WalkLogPartitionMaintainer partitionMaintainer;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        sharedRouteRepository.deleteAll();
+        archiveRepository.deleteAll();
+        walkLogRepository.deleteAll();
+        userRepository.deleteAll();
+        User walker = new User();
+        walker.setUsername("walker");
+        walker.setPassword("password");
+        user = userRepository.save(walker);
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'walk_logs' AND PARTITION_NAME IS NOT NULL",
+                String.class);
+    }
+
+    private WalkLog walk(LocalDateTime startTime, boolean publicRoute) {
+        WalkLog walkLog = WalkLog.builder()
+                .user(user)
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(30))
+                .durationSeconds(1800L)
+                .distanceMeters(2000.0)
+                .steps(3000)
+                .caloriesBurned(120.0)
+                .routeCoordinatesJson(ROUTE)
+                .build();
+        walkLog.setPublicRoute(publicRoute);
+        return walkLogRepository.save(walkLog);
+    }
+
+    @Test
+    void maintainerSplitsFuturePartitionIntoUpcomingMonths() {
+        partitionMaintainer.ensureUpcomingPartitions();
+
+        List<String> partitions = partitionNames();
+        assertThat(partitions).contains("p_future");
+        for (int month = 0; month <= 3; month++) {
+            assertThat(partitions).contains(YearMonth.now().plusMonths(month).format(PARTITION_NAME));
+        }
+    }
+
+    @Test
+    void rangeQueryPrunesEarlierMonths() {
+        partitionMaintainer.ensureUpcomingPartitions();
+
+        Map<String, Object> plan = jdbcTemplate.queryForMap(
+                "EXPLAIN SELECT id FROM walk_logs WHERE user_id = ? AND start_time >= ?",
+                user.getId(), YearMonth.now().plusMonths(1).atDay(1).atStartOfDay());
+
+        assertThat((String) plan.get("partitions")).doesNotContain(YearMonth.now().format(PARTITION_NAME));
+    }
+
+    @Test
+    void archivesOnlyColdPrivateUnsharedRoutesAndReadsThemBack() {
+        LocalDateTime cold = LocalDateTime.now().minusYears(2);
+        WalkLog coldPrivate = walk(cold, false);
+        WalkLog coldPublic = walk(cold.plusHours(1), true);
+        WalkLog coldShared = walk(cold.plusHours(2), false);
+        WalkLog recent = walk(LocalDateTime.now().minusDays(1), false);
+        sharedRouteRepository.save(SharedRoute.builder().shareId(UUID.randomUUID()).walkLog(coldShared).build());
+
+        routeArchiveService.archiveColdRoutes();
+
+        WalkLog archived = walkLogRepository.findById(coldPrivate.getId()).orElseThrow();
+        assertThat(archived.isRouteArchived()).isTrue();
+        assertThat(archived.getRouteCoordinatesJson()).isNull();
+        assertThat(routeArchiveService.routeJsonOf(archived)).isEqualTo(ROUTE);
+        assertThat(routeArchiveService.archivedRouteJsonOf(List.of(archived))).containsEntry(archived.getId(), ROUTE);
+        for (WalkLog kept : List.of(coldPublic, coldShared, recent)) {
+            WalkLog reloaded = walkLogRepository.findById(kept.getId()).orElseThrow();
+            assertThat(reloaded.isRouteArchived()).isFalse();
+            assertThat(reloaded.getRouteCoordinatesJson()).isEqualTo(ROUTE);
+        }
+        assertThat(archiveRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void archivedRouteIsNotArchivedTwice() {
+        WalkLog coldPrivate = walk(LocalDateTime.now().minusYears(2), false);
+
+        routeArchiveService.archiveColdRoutes();
+        routeArchiveService.archiveColdRoutes();
+
+        assertThat(archiveRepository.findById(coldPrivate.getId())).isPresent();
+        assertThat(archiveRepository.count()).isEqualTo(1);
+    }
+}
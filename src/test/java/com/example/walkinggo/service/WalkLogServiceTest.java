@@ -0,0 +1,122 @@
+package com.example.walkinggo.service;
+
+import com.example.walkinggo.dto.WalkLogRequest;
+import com.example.walkinggo.entity.User;
+import com.example.walkinggo.entity.WalkLog;
+import com.example.walkinggo.repository.UserRepository;
+import com.example.walkinggo.repository.WalkLogRepository;
+import com.example.walkinggo.util.CalorieCalculator;
+import com.example.walkinggo.util.geo.RouteGeometryProcessor;
+import com.example.walkinggo.util.geo.TrackMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WalkLogServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 5, 20, 10, 0);
+
+    private final WalkLogRepository walkLogRepository = mock(WalkLogRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RouteGeometryProcessor routeGeometryProcessor = mock(RouteGeometryProcessor.class);
+    private WalkLogService walkLogService;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("walker");
+        user.setWeightKg(60.0);
+        when(userRepository.findByUsername("walker")).thenReturn(Optional.of(user));
+        when(walkLogRepository.findByUserAndDedupeKey(any(User.class), anyString())).thenReturn(List.of());
+        when(walkLogRepository.save(any(WalkLog.class))).thenAnswer(invocation -> {
+            WalkLog walkLog = invocation.getArgument(0);
+            walkLog.setId(10L);
+            return walkLog;
+        });
+        when(routeGeometryProcessor.process((String) null, START, START.plusMinutes(30))).thenReturn(TrackMetrics.EMPTY);
+        walkLogService = new WalkLogService(walkLogRepository, userRepository, routeGeometryProcessor,
+                mock(RecentUploadCache.class), mock(OutboxEventPublisher.class), mock(ApplicationEventPublisher.class),
+                mock(ResourceVersionRegistry.class), mock(RouteThumbnailService.class), mock(RouteSimilarityIndex.class),
+                mock(WalkLogRouteArchiveService.class));
+    }
+
+    private static WalkLogRequest request(Double caloriesBurned) {
+        WalkLogRequest request = new WalkLogRequest();
+        request.setStartTime(START);
+        request.setEndTime(START.plusMinutes(30));
+        request.setDistanceMeters(2000.0);
+        request.setSteps(3000);
+        request.setCaloriesBurned(caloriesBurned);
+        return request;
+    }
+
+    private WalkLog savedWalkLog() {
+        ArgumentCaptor<WalkLog> captor = ArgumentCaptor.forClass(WalkLog.class);
+        verify(walkLogRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void clientCaloriesAreKeptAndFlaggedAsUserProvided() {
+        walkLogService.saveWalkLog("walker", request(123.4), "upload-1");
+
+        WalkLog saved = savedWalkLog();
+        assertThat(saved.getCaloriesBurned()).isEqualTo(123.4);
+        assertThat(saved.isCaloriesUserProvided()).isTrue();
+    }
+
+    @Test
+    void omittedCaloriesAreComputedFromWeightAndNotFlagged() {
+        walkLogService.saveWalkLog("walker", request(null), "upload-2");
+
+        WalkLog saved = savedWalkLog();
+        assertThat(saved.getCaloriesBurned()).isCloseTo(CalorieCalculator.walkingCalories(60.0, 30 * 60), within(1e-9));
+        assertThat(saved.isCaloriesUserProvided()).isFalse();
+    }
+
+    @Test
+    void replayWithSameKeyAndStartTimeReturnsStoredLog() {
+        WalkLog stored = storedWalkLog(START);
+        when(walkLogRepository.findByUserAndDedupeKey(any(User.class), anyString())).thenReturn(List.of(stored));
+
+        assertThat(walkLogService.saveWalkLog("walker", request(null), "upload-3").getId()).isEqualTo(stored.getId());
+        verify(walkLogRepository, never()).save(any(WalkLog.class));
+    }
+
+    @Test
+    void reusedKeyWithDifferentStartTimeIsRejectedAsConflict() {
+        when(walkLogRepository.findByUserAndDedupeKey(any(User.class), anyString()))
+                .thenReturn(List.of(storedWalkLog(START.minusDays(1)), storedWalkLog(START.minusDays(2))));
+
+        assertThatThrownBy(() -> walkLogService.saveWalkLog("walker", request(null), "upload-4"))
+                .isInstanceOf(IllegalStateException.class);
+        verify(walkLogRepository, never()).save(any(WalkLog.class));
+    }
+
+    private static WalkLog storedWalkLog(LocalDateTime startTime) {
+        User user = new User();
+        user.setId(1L);
+        return WalkLog.builder()
+                .id(startTime.getDayOfMonth() + 100L)
+                .user(user)
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(30))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.walkinggo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParticipationCodePermutationTest {
+
+    private final ParticipationCodePermutation permutation = new ParticipationCodePermutation("test-secret");
+
+    @Test
+    void codesAreEightDigitsAndUniqueAcrossSequences() {
+        Set<String> codes = new HashSet<>();
+        for (long sequence = 0; sequence < 200_000; sequence++) {
+            String code = permutation.codeOf(sequence);
+            assertThat(code).hasSize(ParticipationCodePermutation.CODE_LENGTH).containsOnlyDigits();
+            codes.add(code);
+        }
+        assertThat(codes).hasSize(200_000);
+    }
+
+    @Test
+    void lastSequenceStaysInsideCodeSpace() {
+        String code = permutation.codeOf(ParticipationCodePermutation.CODE_SPACE - 1);
+
+        assertThat(Long.parseLong(code)).isLessThan(ParticipationCodePermutation.CODE_SPACE);
+    }
+
+    @Test
+    void sameSecretGivesSameCodesAndOtherSecretDiffers() {
+        ParticipationCodePermutation same = new ParticipationCodePermutation("test-secret");
+        ParticipationCodePermutation other = new ParticipationCodePermutation("other-secret");
+
+        assertThat(same.codeOf(12_345)).isEqualTo(permutation.codeOf(12_345));
+        assertThat(other.codeOf(12_345)).isNotEqualTo(permutation.codeOf(12_345));
+    }
+
+    @Test
+    void consecutiveSequencesDoNotProduceConsecutiveCodes() {
+        long first = Long.parseLong(permutation.codeOf(1_000));
+        long second = Long.parseLong(permutation.codeOf(1_001));
+
+        assertThat(Math.abs(second - first)).isGreaterThan(1);
+    }
+
+    @Test
+    void rejectsSequenceOutsideCodeSpace() {
+        assertThatThrownBy(() -> permutation.codeOf(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> permutation.codeOf(ParticipationCodePermutation.CODE_SPACE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
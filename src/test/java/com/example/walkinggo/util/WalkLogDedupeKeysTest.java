@@ -0,0 +1,36 @@
+package com.example.walkinggo.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WalkLogDedupeKeysTest {
+
+    @Test
+    void recognisesDedupeKeyViolationInCauseChain() {
+        SQLIntegrityConstraintViolationException cause = new SQLIntegrityConstraintViolationException(
+                "Duplicate entry '1-abc' for key 'walk_logs.uk_walk_logs_user_dedupe_key_start'");
+
+        assertThat(WalkLogDedupeKeys.isDedupeKeyViolation(new DataIntegrityViolationException("could not execute statement", cause))).isTrue();
+    }
+
+    @Test
+    void rejectsOtherConstraintViolations() {
+        SQLIntegrityConstraintViolationException cause = new SQLIntegrityConstraintViolationException(
+                "Cannot add or update a child row: a foreign key constraint fails");
+
+        assertThat(WalkLogDedupeKeys.isDedupeKeyViolation(new DataIntegrityViolationException("could not execute statement", cause))).isFalse();
+    }
+
+    @Test
+    void sameContentProducesSameKey() {
+        String first = WalkLogDedupeKeys.of(1L, null, null, "[]");
+        String second = WalkLogDedupeKeys.of(1L, null, null, "[]");
+
+        assertThat(first).isEqualTo(second).hasSize(64);
+        assertThat(WalkLogDedupeKeys.of(2L, null, null, "[]")).isNotEqualTo(first);
+    }
+}
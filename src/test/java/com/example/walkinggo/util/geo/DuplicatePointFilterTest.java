@@ -0,0 +1,43 @@
+package com.example.walkinggo.util.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static com.example.walkinggo.util.geo.TrackPointSink.NO_TIMESTAMP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DuplicatePointFilterTest {
+
+    private final DuplicatePointFilter filter = new DuplicatePointFilter();
+
+    @Test
+    void dropsRepeatedPositionsAndStaleTimestamps() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.000, 127.0, 1_000L);
+        points.accept(37.000, 127.0, 2_000L);
+        points.accept(37.001, 127.0, 900L);
+        points.accept(37.002, 127.0, 3_000L);
+
+        int dropped = filter.apply(points);
+
+        assertThat(dropped).isEqualTo(2);
+        assertThat(points.size()).isEqualTo(2);
+        assertThat(points.latitudes()[1]).isEqualTo(37.002);
+    }
+
+    @Test
+    void keepsDistinctPointsWithEqualInterpolatedTimestamps() {
+        TrackPoints points = new TrackPoints();
+        for (int i = 0; i < 10; i++) {
+            points.accept(37.0 + i * 0.0001, 127.0, NO_TIMESTAMP);
+        }
+        LocalDateTime instant = LocalDateTime.of(2025, 5, 20, 10, 0);
+        points.interpolateMissingTimestamps(instant, instant);
+
+        int dropped = filter.apply(points);
+
+        assertThat(dropped).isZero();
+        assertThat(points.size()).isEqualTo(10);
+    }
+}
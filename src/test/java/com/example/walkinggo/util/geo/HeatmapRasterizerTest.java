@@ -0,0 +1,81 @@
+package com.example.walkinggo.util.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.example.walkinggo.util.geo.TrackPointSink.NO_TIMESTAMP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeatmapRasterizerTest {
+
+    private static long[] cellsAtZoom(long[] keys, int zoom) {
+        return Arrays.stream(keys).filter(key -> HeatmapRasterizer.zoomOf(key) == zoom).toArray();
+    }
+
+    @Test
+    void emptyTrackHasNoCells() {
+        assertThat(HeatmapRasterizer.rasterize(new TrackPoints())).isEmpty();
+    }
+
+    @Test
+    void singlePointCoversOneCellPerZoom() {
+        TrackPoints points = new TrackPoints();
+        points.accept(0.0, 0.0, NO_TIMESTAMP);
+
+        long[] keys = HeatmapRasterizer.rasterize(points);
+
+        assertThat(keys).hasSize(HeatmapRasterizer.MAX_ZOOM - HeatmapRasterizer.MIN_ZOOM + 1);
+        long[] minZoom = cellsAtZoom(keys, HeatmapRasterizer.MIN_ZOOM);
+        int center = 1 << (HeatmapRasterizer.MIN_ZOOM + HeatmapRasterizer.CELL_SHIFT - 1);
+        assertThat(minZoom).hasSize(1);
+        assertThat(HeatmapRasterizer.cellXOf(minZoom[0])).isEqualTo(center);
+        assertThat(HeatmapRasterizer.cellYOf(minZoom[0])).isEqualTo(center);
+    }
+
+    @Test
+    void segmentIsDrawnAsConnectedCells() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.5000, 127.0000, NO_TIMESTAMP);
+        points.accept(37.5100, 127.0150, NO_TIMESTAMP);
+
+        long[] maxZoom = cellsAtZoom(HeatmapRasterizer.rasterize(points), HeatmapRasterizer.MAX_ZOOM);
+
+        List<long[]> cells = Arrays.stream(maxZoom)
+                .mapToObj(key -> new long[]{HeatmapRasterizer.cellXOf(key), HeatmapRasterizer.cellYOf(key)})
+                .sorted(Comparator.<long[]>comparingLong(cell -> cell[0]).thenComparing(cell -> -cell[1]))
+                .toList();
+        long spanX = cells.get(cells.size() - 1)[0] - cells.get(0)[0];
+        assertThat(cells.size()).isGreaterThanOrEqualTo((int) spanX + 1);
+        for (int i = 1; i < cells.size(); i++) {
+            assertThat(Math.abs(cells.get(i)[0] - cells.get(i - 1)[0])).isLessThanOrEqualTo(1);
+            assertThat(Math.abs(cells.get(i)[1] - cells.get(i - 1)[1])).isLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    void keysAreSortedAndUnique() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.5, 127.0, NO_TIMESTAMP);
+        points.accept(37.5, 127.0, NO_TIMESTAMP);
+        points.accept(37.5001, 127.0001, NO_TIMESTAMP);
+
+        long[] keys = HeatmapRasterizer.rasterize(points);
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void polarLatitudeIsClampedToGrid() {
+        TrackPoints points = new TrackPoints();
+        points.accept(90.0, 180.0, NO_TIMESTAMP);
+
+        long[] minZoom = cellsAtZoom(HeatmapRasterizer.rasterize(points), HeatmapRasterizer.MIN_ZOOM);
+        int gridSize = 1 << (HeatmapRasterizer.MIN_ZOOM + HeatmapRasterizer.CELL_SHIFT);
+
+        assertThat(HeatmapRasterizer.cellYOf(minZoom[0])).isEqualTo(0);
+        assertThat(HeatmapRasterizer.cellXOf(minZoom[0])).isEqualTo(gridSize - 1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.walkinggo.util.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static com.example.walkinggo.util.geo.TrackPointSink.NO_TIMESTAMP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteFingerprintTest {
+
+    private static TrackPoints line(double startLatitude, double longitude, int points) {
+        TrackPoints track = new TrackPoints();
+        for (int i = 0; i < points; i++) {
+            track.accept(startLatitude + i * 0.0005, longitude, NO_TIMESTAMP);
+        }
+        return track;
+    }
+
+    @Test
+    void sameRouteHasIdenticalSignature() {
+        int[] first = RouteFingerprint.compute(line(37.5, 127.0, 40));
+        int[] second = RouteFingerprint.compute(line(37.5, 127.0, 40));
+
+        assertThat(first).hasSize(RouteFingerprint.SIGNATURE_LENGTH);
+        assertThat(RouteFingerprint.similarity(first, second)).isEqualTo(1.0);
+    }
+
+    @Test
+    void sparseSamplingOfSameRouteStaysSimilar() {
+        TrackPoints dense = line(37.5, 127.0, 40);
+        TrackPoints sparse = new TrackPoints();
+        for (int i = 0; i < 40; i += 4) {
+            sparse.accept(37.5 + i * 0.0005, 127.0, NO_TIMESTAMP);
+        }
+        sparse.accept(37.5 + 39 * 0.0005, 127.0, NO_TIMESTAMP);
+
+        double similarity = RouteFingerprint.similarity(RouteFingerprint.compute(dense), RouteFingerprint.compute(sparse));
+
+        assertThat(similarity).isGreaterThanOrEqualTo(0.75);
+    }
+
+    @Test
+    void distantRoutesAreDissimilar() {
+        int[] seoul = RouteFingerprint.compute(line(37.5, 127.0, 40));
+        int[] busan = RouteFingerprint.compute(line(35.1, 129.0, 40));
+
+        assertThat(RouteFingerprint.similarity(seoul, busan)).isLessThan(0.2);
+    }
+
+    @Test
+    void sameBandsProduceSameBandKeys() {
+        int[] signature = RouteFingerprint.compute(line(37.5, 127.0, 40));
+        int[] copy = signature.clone();
+        copy[RouteFingerprint.SIGNATURE_LENGTH - 1]++;
+
+        assertThat(RouteFingerprint.bandKey(copy, 0)).isEqualTo(RouteFingerprint.bandKey(signature, 0));
+        assertThat(RouteFingerprint.bandKey(copy, RouteFingerprint.BANDS - 1))
+                .isNotEqualTo(RouteFingerprint.bandKey(signature, RouteFingerprint.BANDS - 1));
+    }
+
+    @Test
+    void roundTripsThroughBytes() {
+        int[] signature = RouteFingerprint.compute(line(37.5, 127.0, 10));
+
+        assertThat(RouteFingerprint.fromBytes(RouteFingerprint.toBytes(signature))).containsExactly(signature);
+        assertThat(RouteFingerprint.fromBytes(new byte[0])).isNull();
+        assertThat(RouteFingerprint.fromBytes(null)).isNull();
+    }
+}
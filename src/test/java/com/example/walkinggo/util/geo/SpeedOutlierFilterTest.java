@@ -0,0 +1,92 @@
+package com.example.walkinggo.util.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static com.example.walkinggo.util.geo.TrackPointSink.NO_TIMESTAMP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpeedOutlierFilterTest {
+
+    private final SpeedOutlierFilter filter = new SpeedOutlierFilter(7.0);
+
+    @Test
+    void dropsSingleJumpFasterThanLimit() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.00000, 127.0, 0L);
+        points.accept(37.00010, 127.0, 10_000L);
+        points.accept(37.01000, 127.0, 20_000L);
+        points.accept(37.00020, 127.0, 30_000L);
+
+        int dropped = filter.apply(points);
+
+        assertThat(dropped).isEqualTo(1);
+        assertThat(points.size()).isEqualTo(3);
+        assertThat(points.latitudes()[2]).isEqualTo(37.00020);
+    }
+
+    @Test
+    void doesNotJudgeSpeedOfInterpolatedSegments() {
+        TrackPoints points = new TrackPoints();
+        for (int i = 0; i < 10; i++) {
+            points.accept(37.0 + i * 0.001, 127.0, NO_TIMESTAMP);
+        }
+        LocalDateTime start = LocalDateTime.of(2025, 5, 20, 10, 0);
+        points.interpolateMissingTimestamps(start, start.plusSeconds(1));
+
+        assertThat(filter.apply(points)).isZero();
+    }
+
+    @Test
+    void dropsSpikeFromInterpolatedTrack() {
+        TrackPoints points = untimedTrackWithSpike();
+        LocalDateTime start = LocalDateTime.of(2025, 5, 20, 10, 0);
+        points.interpolateMissingTimestamps(start, start.plusMinutes(10));
+
+        int dropped = filter.apply(points);
+
+        assertThat(dropped).isEqualTo(1);
+        assertThat(points.size()).isEqualTo(19);
+        assertThat(points.latitudes()).doesNotContain(37.05);
+    }
+
+    @Test
+    void dropsSpikeFromUntimedTrack() {
+        TrackPoints points = untimedTrackWithSpike();
+
+        int dropped = filter.apply(points);
+
+        assertThat(dropped).isEqualTo(1);
+        assertThat(points.latitudes()).doesNotContain(37.05);
+    }
+
+    @Test
+    void keepsLongStepsOfSparseUntimedTrack() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.000, 127.0, NO_TIMESTAMP);
+        points.accept(37.001, 127.0, NO_TIMESTAMP);
+        points.accept(37.002, 127.0, NO_TIMESTAMP);
+        points.accept(37.020, 127.0, NO_TIMESTAMP);
+        points.accept(37.021, 127.0, NO_TIMESTAMP);
+
+        assertThat(filter.apply(points)).isZero();
+    }
+
+    @Test
+    void ignoresUntimedTrack() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.0, 127.0, NO_TIMESTAMP);
+        points.accept(38.0, 127.0, NO_TIMESTAMP);
+
+        assertThat(filter.apply(points)).isZero();
+    }
+
+    private static TrackPoints untimedTrackWithSpike() {
+        TrackPoints points = new TrackPoints();
+        for (int i = 0; i < 20; i++) {
+            points.accept(i == 10 ? 37.05 : 37.0 + i * 0.0001, 127.0, NO_TIMESTAMP);
+        }
+        return points;
+    }
+}
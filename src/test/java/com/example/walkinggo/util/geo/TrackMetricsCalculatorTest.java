@@ -0,0 +1,36 @@
+package com.example.walkinggo.util.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrackMetricsCalculatorTest {
+
+    @Test
+    void computesDistanceMovingTimeAndSplits() {
+        TrackPoints points = new TrackPoints();
+        double metersPerDegree = GeoMath.EARTH_RADIUS_METERS * Math.PI / 180.0;
+        for (int i = 0; i <= 25; i++) {
+            points.accept(37.0 + i * 100.0 / metersPerDegree, 127.0, i * 60_000L);
+        }
+
+        TrackMetrics metrics = TrackMetricsCalculator.compute(points);
+
+        assertThat(metrics.getDistanceMeters()).isCloseTo(2_500.0, within(1.0));
+        assertThat(metrics.getMovingTimeSeconds()).isEqualTo(1_500L);
+        assertThat(metrics.getSplitSeconds()).containsExactly(600, 600);
+        assertThat(metrics.getAveragePaceSecondsPerKm()).isCloseTo(600.0, within(1.0));
+    }
+
+    @Test
+    void returnsZeroMetricsForSinglePoint() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.0, 127.0, 0L);
+
+        TrackMetrics metrics = TrackMetricsCalculator.compute(points);
+
+        assertThat(metrics.hasGeometry()).isFalse();
+        assertThat(metrics.getDistanceMeters()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.walkinggo.util.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+import static com.example.walkinggo.util.geo.TrackPointSink.NO_TIMESTAMP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrackPointsTest {
+
+    private static LocalDateTime at(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long[] timestampsOf(TrackPoints points) {
+        return Arrays.copyOf(points.timestamps(), points.size());
+    }
+
+    @Test
+    void fillsOnlyMissingTimestampsBetweenKnownOnes() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.000, 127.0, NO_TIMESTAMP);
+        points.accept(37.001, 127.0, 1_000_000L);
+        points.accept(37.002, 127.0, NO_TIMESTAMP);
+        points.accept(37.003, 127.0, NO_TIMESTAMP);
+        points.accept(37.004, 127.0, 1_030_000L);
+        points.accept(37.005, 127.0, NO_TIMESTAMP);
+
+        points.interpolateMissingTimestamps(at(990_000L), at(1_050_000L));
+
+        assertThat(timestampsOf(points)).containsExactly(990_000L, 1_000_000L, 1_010_000L, 1_020_000L, 1_030_000L, 1_050_000L);
+        assertThat(points.hasTimestamps()).isTrue();
+        assertThat(points.isSynthetic(0)).isTrue();
+        assertThat(points.isSynthetic(1)).isFalse();
+        assertThat(points.isSynthetic(4)).isFalse();
+        assertThat(points.isSynthetic(5)).isTrue();
+    }
+
+    @Test
+    void spreadsUntimedTrackAcrossWalkDuration() {
+        TrackPoints points = new TrackPoints();
+        for (int i = 0; i < 5; i++) {
+            points.accept(37.0 + i * 0.001, 127.0, NO_TIMESTAMP);
+        }
+
+        points.interpolateMissingTimestamps(at(0L), at(40_000L));
+
+        assertThat(timestampsOf(points)).containsExactly(0L, 10_000L, 20_000L, 30_000L, 40_000L);
+    }
+
+    @Test
+    void leavesFullyTimedTrackUntouched() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.0, 127.0, 5_000L);
+        points.accept(37.001, 127.0, 7_000L);
+
+        points.interpolateMissingTimestamps(at(0L), at(100_000L));
+
+        assertThat(timestampsOf(points)).containsExactly(5_000L, 7_000L);
+        assertThat(points.isSynthetic(0)).isFalse();
+    }
+
+    @Test
+    void keepsTrackUntimedWithoutAnyReference() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.0, 127.0, NO_TIMESTAMP);
+        points.accept(37.001, 127.0, NO_TIMESTAMP);
+
+        points.interpolateMissingTimestamps(null, null);
+
+        assertThat(points.hasTimestamps()).isFalse();
+        assertThat(points.timeAt(0)).isNull();
+    }
+
+    @Test
+    void movesSyntheticFlagWithPoint() {
+        TrackPoints points = new TrackPoints();
+        points.accept(37.0, 127.0, 1_000L);
+        points.accept(37.001, 127.0, NO_TIMESTAMP);
+        points.accept(37.002, 127.0, 3_000L);
+        points.interpolateMissingTimestamps(null, null);
+
+        points.move(1, 0);
+
+        assertThat(points.isSynthetic(0)).isTrue();
+        assertThat(points.timestamps()[0]).isEqualTo(2_000L);
+    }
+}